@@ -0,0 +1,13 @@
+import net.infumia.gradle.applyJmh
+
+applyJmh()
+
+dependencies {
+    jmh(project(":"))
+    jmh(project(":testing"))
+    jmh(libs.protobuf)
+    jmh(libs.grpc.protobuf)
+    jmh(libs.grpc.stub)
+    jmh(libs.grpc.inprocess)
+    jmh(libs.annotationsapi)
+}
@@ -0,0 +1,70 @@
+package net.infumia.agones4j;
+
+import agones.dev.sdk.beta.Beta;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the conversions between the beta protos and the public counter and list types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConversionBenchmark {
+
+    @Param({ "0", "16", "256" })
+    private int values;
+
+    private Beta.Counter counter;
+    private Beta.List list;
+    private AgonesList agonesList;
+
+    @Setup
+    public void setup() {
+        final List<String> values = new ArrayList<>(this.values);
+        for (int i = 0; i < this.values; i++) {
+            values.add("player-" + i);
+        }
+        this.counter = Beta.Counter.newBuilder()
+            .setName("rooms")
+            .setCapacity(100L)
+            .setCount(42L)
+            .build();
+        this.list = Beta.List.newBuilder()
+            .setName("players")
+            .setCapacity(1000L)
+            .addAllValues(values)
+            .build();
+        this.agonesList = Internal.toList(this.list);
+    }
+
+    @Benchmark
+    public AgonesCounter toCounter() {
+        return Internal.toCounter(this.counter);
+    }
+
+    @Benchmark
+    public AgonesList toList() {
+        return Internal.toList(this.list);
+    }
+
+    @Benchmark
+    public Beta.List toAgonesList() {
+        return Internal.toAgonesList(this.agonesList);
+    }
+}
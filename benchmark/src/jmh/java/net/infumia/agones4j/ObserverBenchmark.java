@@ -0,0 +1,58 @@
+package net.infumia.agones4j;
+
+import agones.dev.sdk.beta.Beta;
+import io.grpc.stub.StreamObserver;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of the observer adapters every {@code *Future} method goes through.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ObserverBenchmark {
+
+    private Beta.Counter counter;
+
+    @Setup
+    public void setup() {
+        this.counter = Beta.Counter.newBuilder()
+            .setName("rooms")
+            .setCapacity(100L)
+            .setCount(42L)
+            .build();
+    }
+
+    @Benchmark
+    public AgonesCounter observerToFuture() {
+        return Internal.<AgonesCounter>observerToFuture(response -> {
+            response.onNext(Internal.toCounter(this.counter));
+            response.onCompleted();
+        }).join();
+    }
+
+    @Benchmark
+    public AgonesCounter observerMapToFuture() {
+        return Internal.<AgonesCounter>observerToFuture(response -> {
+            final StreamObserver<Beta.Counter> mapped = Internal.observerMap(
+                response,
+                Internal::toCounter
+            );
+            mapped.onNext(this.counter);
+            mapped.onCompleted();
+        }).join();
+    }
+}
@@ -0,0 +1,72 @@
+package net.infumia.agones4j;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import net.infumia.agones4j.testing.FakeAgones;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures counter and list update round trips through the client against the in-process fake sidecar.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RoundTripBenchmark {
+
+    private FakeAgones fake;
+    private Agones agones;
+
+    @Setup
+    public void setup() {
+        this.fake = FakeAgones.builder()
+            .withCounter("rooms", 0L, Long.MAX_VALUE)
+            .withList("players", Long.MAX_VALUE, Collections.emptyList())
+            .build();
+        this.agones = Agones.builder().withChannel(this.fake.newChannel()).build();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        this.agones.close();
+        this.fake.close();
+    }
+
+    @Benchmark
+    public AgonesCounter increaseCounter() {
+        return this.agones.increaseCounterFuture("rooms", 1L).join();
+    }
+
+    @Benchmark
+    public AgonesCounter getCounter() {
+        return this.agones.getCounterFuture("rooms").join();
+    }
+
+    @Benchmark
+    public AgonesCounter increaseCounterBlocking() {
+        return this.agones.blocking().increaseCounter("rooms", 1L);
+    }
+
+    @Benchmark
+    public AgonesCounter getCounterBlocking() {
+        return this.agones.blocking().getCounter("rooms");
+    }
+
+    @Benchmark
+    public AgonesList addAndRemoveListValue() {
+        this.agones.addListFuture("players", "player").join();
+        return this.agones.removeListFuture("players", "player").join();
+    }
+}
@@ -0,0 +1,96 @@
+package net.infumia.agones4j;
+
+import agones.dev.sdk.Sdk;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many game server updates per second can be dispatched to N watchers.
+ * <p>
+ * Watchers run on the calling thread, so the score includes the watcher calls but no thread hand-off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WatchDispatchBenchmark {
+
+    @Param({ "1", "16", "256" })
+    private int watchers;
+
+    private final LongAdder received = new LongAdder();
+    private WatcherDispatcher<Sdk.GameServer> dispatcher;
+    private WatcherDispatcher<Sdk.GameServer> filteredDispatcher;
+    private GameServerEvents events;
+    private Sdk.GameServer[] gameServers;
+    private int index;
+
+    @Setup
+    public void setup() {
+        this.dispatcher = new WatcherDispatcher<>(Runnable::run);
+        this.filteredDispatcher = new WatcherDispatcher<>(Runnable::run);
+        this.events = new GameServerEvents(Runnable::run);
+        for (int i = 0; i < this.watchers; i++) {
+            this.dispatcher.add(gameServer -> this.received.increment());
+            final FieldSelector.Filter filter = FieldSelector.compile(
+                Collections.singletonList("status.state")
+            ).filter();
+            this.filteredDispatcher.add(gameServer -> this.received.increment(), filter::changed);
+            this.events.add(
+                EnumSet.of(GameServerEvent.Kind.COUNTER_CHANGED),
+                event -> this.received.increment()
+            );
+        }
+        this.gameServers = new Sdk.GameServer[2];
+        for (int i = 0; i < this.gameServers.length; i++) {
+            final Sdk.GameServer.Builder builder = Sdk.GameServer.newBuilder();
+            builder.getObjectMetaBuilder().setName("game-server").setResourceVersion("v" + i);
+            builder
+                .getStatusBuilder()
+                .setState("Ready")
+                .putCounters(
+                    "rooms",
+                    Sdk.GameServer.Status.CounterStatus.newBuilder()
+                        .setCapacity(100L)
+                        .setCount(i)
+                        .build()
+                );
+            this.gameServers[i] = builder.build();
+        }
+    }
+
+    @Benchmark
+    public void dispatch() {
+        this.dispatcher.dispatch(this.next());
+    }
+
+    @Benchmark
+    public void dispatchFiltered() {
+        this.filteredDispatcher.dispatch(this.next());
+    }
+
+    @Benchmark
+    public void diffEvents() {
+        this.events.update(this.next());
+    }
+
+    private Sdk.GameServer next() {
+        this.index ^= 1;
+        return this.gameServers[this.index];
+    }
+}
@@ -13,6 +13,7 @@ dependencies {
     implementation(libs.nexus.plugin)
     implementation(libs.spotless.plugin)
     implementation(libs.protobuf.plugin)
+    implementation(libs.jmh.plugin)
 }
 
 kotlin { jvmToolchain(11) }
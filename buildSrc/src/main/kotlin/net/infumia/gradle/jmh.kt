@@ -0,0 +1,20 @@
+package net.infumia.gradle
+
+import me.champeau.jmh.JMHPlugin
+import me.champeau.jmh.JmhParameters
+import org.gradle.accessors.dm.LibrariesForLibs
+import org.gradle.api.Project
+import org.gradle.kotlin.dsl.*
+
+fun Project.applyJmh(javaVersion: Int = 8) {
+    val libs = project.rootProject.the<LibrariesForLibs>()
+
+    applyJava(javaVersion)
+    apply<JMHPlugin>()
+
+    extensions.configure<JmhParameters> {
+        jmhVersion = libs.versions.jmh.get()
+        profilers.add("gc")
+        resultFormat = "JSON"
+    }
+}
@@ -67,6 +67,8 @@ fun Project.applySpotless() {
         java {
             target(
                 "src/main/java/**/*.java",
+                "benchmark/src/jmh/java/**/*.java",
+                "testing/src/main/java/**/*.java",
             )
             importOrder()
             removeUnusedImports()
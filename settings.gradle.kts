@@ -1,3 +1,7 @@
 plugins { id("org.gradle.toolchains.foojay-resolver-convention") version "0.10.0" }
 
 rootProject.name = "agones4j"
+
+include("benchmark")
+
+include("testing")
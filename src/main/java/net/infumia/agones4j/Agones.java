@@ -2,17 +2,26 @@ package net.infumia.agones4j;
 
 import agones.dev.sdk.Sdk;
 import agones.dev.sdk.alpha.Alpha;
+import com.google.protobuf.FieldMask;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.stub.StreamObserver;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * The interface provides methods to interact with Agones.
@@ -40,6 +49,12 @@ public interface Agones extends AutoCloseable {
      * Adds a game server watcher.
      * <p>
      * Game server watchers are called whenever a game server event occurs.
+     * <p>
+     * Each watcher runs serially and only sees the latest game server. Updates that are superseded before a slow
+     * watcher gets to them are dropped.
+     * <p>
+     * If the watch stream breaks, it is reopened with a bounded backoff. Game servers whose resource version was already
+     * seen are skipped, and {@link GameServerEvent.Resynced} is fired once the stream delivers again.
      *
      * @param watcher A consumer that represents the game server watcher.
      *
@@ -47,10 +62,124 @@ public interface Agones extends AutoCloseable {
      */
     void addGameServerWatcher(Consumer<Sdk.GameServer> watcher);
 
+    /**
+     * Adds a game server watcher that is called only when the selected fields change.
+     * <p>
+     * Paths use the proto field names, e.g. {@code status.state}, and map values can be selected by key, e.g.
+     * {@code object_meta.labels["mode"]}. The watcher is called with the first game server, and then only when one of
+     * the selected values differs from the last game server it was called with.
+     *
+     * @param paths the field paths to watch.
+     * @param watcher A consumer that represents the game server watcher.
+     *
+     * @throws IllegalArgumentException if a path does not exist in the game server.
+     *
+     * @see #addGameServerWatcher(Consumer)
+     */
+    void addGameServerWatcher(Collection<String> paths, Consumer<Sdk.GameServer> watcher);
+
+    /**
+     * Adds a game server watcher that is called only when the fields of the mask change.
+     *
+     * @param mask the field mask to watch.
+     * @param watcher A consumer that represents the game server watcher.
+     *
+     * @throws IllegalArgumentException if a path does not exist in the game server.
+     *
+     * @see #addGameServerWatcher(Collection, Consumer)
+     */
+    default void addGameServerWatcher(
+        final FieldMask mask,
+        final Consumer<Sdk.GameServer> watcher
+    ) {
+        this.addGameServerWatcher(mask.getPathsList(), watcher);
+    }
+
+    /**
+     * Adds a game server event listener.
+     * <p>
+     * The changes between two game server updates are computed once per update and delivered as typed events. The
+     * listener is called only for the given kinds, in order and serially. The first update is compared against an
+     * empty game server.
+     *
+     * @param kinds the event kinds to listen.
+     * @param listener A consumer that represents the game server event listener.
+     *
+     * @see #canWatchGameServer()
+     */
+    void addGameServerEventListener(
+        Set<GameServerEvent.Kind> kinds,
+        Consumer<GameServerEvent> listener
+    );
+
+    /**
+     * Adds a game server event listener for a single event type.
+     *
+     * @param type the event type to listen, e.g. {@link GameServerEvent.StateChanged}.
+     * @param listener A consumer that represents the game server event listener.
+     * @param <E> the event type.
+     *
+     * @see #addGameServerEventListener(Set, Consumer)
+     */
+    default <E extends GameServerEvent> void addGameServerEventListener(
+        final Class<E> type,
+        final Consumer<? super E> listener
+    ) {
+        for (final GameServerEvent.Kind kind : GameServerEvent.Kind.values()) {
+            if (kind.getType() == type) {
+                this.addGameServerEventListener(EnumSet.of(kind), event ->
+                    listener.accept(type.cast(event))
+                );
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Unknown game server event type: " + type);
+    }
+
+    /**
+     * Waits until the game server reaches the given state.
+     * <p>
+     * The future completes from the watch stream as soon as an update has the state, or right away if the latest
+     * update already has it. No polling requests are sent.
+     *
+     * @param state the state to wait for, e.g. {@code Ready}.
+     * @param timeout the max time to wait. {@code null} to wait without a timeout.
+     *
+     * @return A future that represents the first game server with the state. Fails with
+     * {@link io.grpc.Status#DEADLINE_EXCEEDED} when the timeout passes.
+     */
+    CompletableFuture<Sdk.GameServer> awaitState(String state, Duration timeout);
+
+    /**
+     * Waits until the game server matches the given condition.
+     * <p>
+     * The future completes from the watch stream as soon as an update matches, or right away if the latest update
+     * already matches. Waiters sharing the same condition instance cost a single check per update, so reuse the
+     * condition when many callers wait for the same thing.
+     *
+     * @param condition the condition to wait for.
+     * @param timeout the max time to wait. {@code null} to wait without a timeout.
+     *
+     * @return A future that represents the first game server matching the condition. Fails with
+     * {@link io.grpc.Status#DEADLINE_EXCEEDED} when the timeout passes.
+     */
+    CompletableFuture<Sdk.GameServer> awaitCondition(
+        Predicate<Sdk.GameServer> condition,
+        Duration timeout
+    );
+
+    /**
+     * Retrieves the counters of the game server watch stream and watcher dispatch.
+     *
+     * @return the watcher counters.
+     */
+    WatcherStats gameServerWatcherStats();
+
     /**
      * Checks if it can use health check system of Agones.
      * <p>
-     * To enable health check, use {@link Builder#withHealthCheck(Duration, Duration)}.
+     * To enable health check, use {@link Builder#withHealthCheck(Duration, Duration)} or
+     * {@link Builder#withAdaptiveHealthCheck(double)}.
      *
      * @return {@code true} if it can use health check system of Agones, {@code false} otherwise.
      */
@@ -58,6 +187,9 @@ public interface Agones extends AutoCloseable {
 
     /**
      * Starts the health checking.
+     * <p>
+     * Pings are sent over a single health stream. If the stream breaks, it is reopened with a bounded backoff and
+     * pinged right after it is reopened.
      *
      * @throws IllegalStateException if the health check interval not specified.
      * @see #canHealthCheck()
@@ -69,6 +201,97 @@ public interface Agones extends AutoCloseable {
      */
     void stopHealthChecking();
 
+    /**
+     * Retrieves the counters of the automatic health checking.
+     *
+     * @return the health check counters.
+     *
+     * @see #startHealthChecking()
+     */
+    HealthCheckStats healthCheckStats();
+
+    /**
+     * Checks if the calls and watchers run on virtual threads.
+     * <p>
+     * To enable virtual threads, use {@link Builder#withVirtualThreads(boolean)} on a JDK that supports them.
+     *
+     * @return {@code true} if virtual threads are used, {@code false} otherwise.
+     */
+    boolean usesVirtualThreads();
+
+    /**
+     * Retrieves the executor that runs the call callbacks.
+     * <p>
+     * With virtual threads, the executor starts a virtual thread per task, so tasks that block on SDK results, e.g.
+     * {@code agones.executor().execute(() -> agones.readyFuture().join())}, park a virtual thread instead of a platform
+     * thread. Otherwise, it is {@link ForkJoinPool#commonPool()}.
+     *
+     * @return the callback executor.
+     *
+     * @see #usesVirtualThreads()
+     */
+    Executor executor();
+
+    /**
+     * Retrieves the synchronous view of this instance.
+     * <p>
+     * The blocking methods call the SDK server through blocking stubs on the same channel, so they skip the future and
+     * observer adapters of the asynchronous methods. Use {@link AgonesBlocking#withDeadline(Duration)} to bound each
+     * call.
+     *
+     * @return the blocking view.
+     */
+    AgonesBlocking blocking();
+
+    /**
+     * Makes the calls of the supplier with a deadline.
+     * <p>
+     * The supplier runs in a gRPC context with the deadline, so every call it starts, including calls chained from their
+     * callbacks, gets the deadline on the wire and is cancelled once it passes. The returned future fails with
+     * {@link io.grpc.Status#DEADLINE_EXCEEDED} if it is not done by then, e.g.
+     * {@code agones.withDeadline(Duration.ofSeconds(1L), agones::readyFuture)}.
+     * <p>
+     * Futures returned by this instance are cancellable, cancelling one cancels its call as well.
+     *
+     * @param deadline the deadline, measured from now.
+     * @param calls the supplier that makes the calls.
+     * @param <T> the value type.
+     *
+     * @return The future returned by the supplier.
+     */
+    <T> CompletableFuture<T> withDeadline(
+        Duration deadline,
+        Supplier<? extends CompletableFuture<T>> calls
+    );
+
+    /**
+     * Retrieves the number of calls that timed out per method.
+     * <p>
+     * Timeouts are only recorded when a deadline policy is set, see {@link Builder#withDeadlinePolicy(DeadlinePolicy)}.
+     *
+     * @return the timed out calls by full method name, e.g. {@code agones.dev.sdk.SDK/Ready}.
+     */
+    Map<String, Long> deadlineTimeouts();
+
+    /**
+     * Retrieves the number of second requests sent for slow reads per method.
+     * <p>
+     * Hedges are only sent when a hedge policy is set, see {@link Builder#withHedgePolicy(HedgePolicy)}.
+     *
+     * @return the sent hedges by full method name, e.g. {@code agones.dev.sdk.SDK/GetGameServer}.
+     */
+    Map<String, Long> hedgedCalls();
+
+    /**
+     * Retrieves the state and the counters of the concurrency limit of each limited method group.
+     * <p>
+     * Limits are only applied when a concurrency limit policy is set, see
+     * {@link Builder#withConcurrencyLimitPolicy(ConcurrencyLimitPolicy)}.
+     *
+     * @return the stats by method group, including the queue depth and the rejected calls.
+     */
+    Map<MethodGroup, ConcurrencyLimitStats> concurrencyLimitStats();
+
     /**
      * Creates a new health check stream.
      *
@@ -116,6 +339,9 @@ public interface Agones extends AutoCloseable {
 
     /**
      * Retrieves the current GameServer data.
+     * <p>
+     * If {@link Builder#withGameServerCache(Duration)} is enabled, the latest snapshot from the watch stream is returned
+     * as long as it is fresh enough.
      *
      * @param response the response from server.
      */
@@ -584,6 +810,138 @@ public interface Agones extends AutoCloseable {
         return Internal.observerToFuture(response -> this.updateList(list, updateMask, response));
     }
 
+    /**
+     * Adds values to a list and returns updated list.
+     * <p>
+     * Values that are already in the list are skipped. The change is computed against the current list and applied
+     * as a single {@code UpdateList} call, or as a single {@code AddListValue} call when only one value is missing.
+     * <p>
+     * Bulk changes read the list from the SDK server, bypassing the counts and lists cache, and then write it, so
+     * values changed by someone else between the read and the write are overwritten.
+     * <p>
+     * Returns NOT_FOUND if the list does not exist.
+     * <p>
+     * Returns OUT_OF_RANGE if the values would exceed the list Capacity.
+     *
+     * @param name the name of the list.
+     * @param values the values to add.
+     * @param response the response from server.
+     */
+    void addListValues(String name, Collection<String> values, StreamObserver<AgonesList> response);
+
+    /**
+     * Adds values to a list and returns updated list.
+     * <p>
+     * Values that are already in the list are skipped. The change is computed against the current list and applied
+     * as a single {@code UpdateList} call, or as a single {@code AddListValue} call when only one value is missing.
+     * <p>
+     * Bulk changes read the list from the SDK server, bypassing the counts and lists cache, and then write it, so
+     * values changed by someone else between the read and the write are overwritten.
+     * <p>
+     * Returns NOT_FOUND if the list does not exist.
+     * <p>
+     * Returns OUT_OF_RANGE if the values would exceed the list Capacity.
+     *
+     * @param name the name of the list.
+     * @param values the values to add.
+     *
+     * @return the updated list.
+     */
+    default CompletableFuture<AgonesList> addListValuesFuture(
+        final String name,
+        final Collection<String> values
+    ) {
+        return Internal.observerToFuture(response -> this.addListValues(name, values, response));
+    }
+
+    /**
+     * Removes values from a list and returns updated list.
+     * <p>
+     * Values that are not in the list are skipped. The change is computed against the current list and applied as a
+     * single {@code UpdateList} call, or as a single {@code RemoveListValue} call when only one value is present.
+     * <p>
+     * Bulk changes read the list from the SDK server, bypassing the counts and lists cache, and then write it, so
+     * values changed by someone else between the read and the write are overwritten.
+     * <p>
+     * Returns NOT_FOUND if the list does not exist.
+     *
+     * @param name the name of the list.
+     * @param values the values to remove.
+     * @param response the response from server.
+     */
+    void removeListValues(
+        String name,
+        Collection<String> values,
+        StreamObserver<AgonesList> response
+    );
+
+    /**
+     * Removes values from a list and returns updated list.
+     * <p>
+     * Values that are not in the list are skipped. The change is computed against the current list and applied as a
+     * single {@code UpdateList} call, or as a single {@code RemoveListValue} call when only one value is present.
+     * <p>
+     * Bulk changes read the list from the SDK server, bypassing the counts and lists cache, and then write it, so
+     * values changed by someone else between the read and the write are overwritten.
+     * <p>
+     * Returns NOT_FOUND if the list does not exist.
+     *
+     * @param name the name of the list.
+     * @param values the values to remove.
+     *
+     * @return the updated list.
+     */
+    default CompletableFuture<AgonesList> removeListValuesFuture(
+        final String name,
+        final Collection<String> values
+    ) {
+        return Internal.observerToFuture(response -> this.removeListValues(name, values, response));
+    }
+
+    /**
+     * Makes the values of a list equal to the desired values and returns updated list.
+     * <p>
+     * Values that are kept stay in their current order and new values are appended. The smallest change is computed
+     * against the current list and applied as a single call.
+     * <p>
+     * The change reads the list from the SDK server, bypassing the counts and lists cache, and then writes it, so values
+     * added by someone else between the read and the write are overwritten.
+     * <p>
+     * Returns NOT_FOUND if the list does not exist.
+     * <p>
+     * Returns OUT_OF_RANGE if the desired values exceed the list Capacity.
+     *
+     * @param name the name of the list.
+     * @param desired the desired values.
+     * @param response the response from server.
+     */
+    void syncList(String name, Set<String> desired, StreamObserver<AgonesList> response);
+
+    /**
+     * Makes the values of a list equal to the desired values and returns updated list.
+     * <p>
+     * Values that are kept stay in their current order and new values are appended. The smallest change is computed
+     * against the current list and applied as a single call.
+     * <p>
+     * The change reads the list from the SDK server, bypassing the counts and lists cache, and then writes it, so values
+     * added by someone else between the read and the write are overwritten.
+     * <p>
+     * Returns NOT_FOUND if the list does not exist.
+     * <p>
+     * Returns OUT_OF_RANGE if the desired values exceed the list Capacity.
+     *
+     * @param name the name of the list.
+     * @param desired the desired values.
+     *
+     * @return the updated list.
+     */
+    default CompletableFuture<AgonesList> syncListFuture(
+        final String name,
+        final Set<String> desired
+    ) {
+        return Internal.observerToFuture(response -> this.syncList(name, desired, response));
+    }
+
     /**
      * gets a counter.
      * <p>
@@ -839,6 +1197,72 @@ public interface Agones extends AutoCloseable {
          */
         Builder withChannel(ManagedChannel channel);
 
+        /**
+         * Sets the metrics that receive the status and latency of every call made to the Agones SDK server.
+         * <p>
+         * The metrics are wired in through a client interceptor on the channel, so calls of the stable, alpha and beta
+         * services are all covered, including streams.
+         *
+         * @param metrics the metrics to report to, e.g. {@link AgonesMetrics#inMemory()}. Default is {@link AgonesMetrics#noop()}
+         *
+         * @return The Agones Builder instance.
+         */
+        Builder withMetrics(AgonesMetrics metrics);
+
+        /**
+         * Sets the deadlines applied to the unary calls of each method group.
+         * <p>
+         * Without a deadline, a stalled SDK server makes the calls wait forever. Calls that time out fail with
+         * {@link io.grpc.Status#DEADLINE_EXCEEDED} and are counted in {@link Agones#deadlineTimeouts()}. The watch and
+         * health streams never get a deadline.
+         *
+         * @param policy the deadline policy, e.g. {@link DeadlinePolicy#defaults()}. Default is {@link DeadlinePolicy#none()}
+         *
+         * @return The Agones Builder instance.
+         */
+        Builder withDeadlinePolicy(DeadlinePolicy policy);
+
+        /**
+         * Sets how idempotent calls are retried after the SDK server is unavailable.
+         * <p>
+         * A blocking or asynchronous call computes the deadline of its method group once and shares it between all of
+         * its attempts, so a deadline policy bounds the time spent on all attempts and backoffs, and no retry is made
+         * when the backoff would outlast the deadline. An asynchronous call bounded by
+         * {@link Agones#withDeadline(Duration, Supplier)} also stops retrying once it expires.
+         *
+         * @param policy the retry policy, e.g. {@link RetryPolicy#defaults()}. Default is {@link RetryPolicy#none()}
+         *
+         * @return The Agones Builder instance.
+         */
+        Builder withRetryPolicy(RetryPolicy policy);
+
+        /**
+         * Sets how the latency-sensitive reads are hedged.
+         * <p>
+         * Hedging applies to the asynchronous {@code getGameServer}, {@code getCounter}, {@code getList} and
+         * {@code getPlayerCount} calls, the number of sent hedges is available in {@link Agones#hedgedCalls()}.
+         *
+         * @param policy the hedge policy, e.g. {@link HedgePolicy#defaults()}. Default is {@link HedgePolicy#none()}
+         *
+         * @return The Agones Builder instance.
+         */
+        Builder withHedgePolicy(HedgePolicy policy);
+
+        /**
+         * Sets the limits of the unary calls in flight of each method group.
+         * <p>
+         * Limits protect the SDK server from bursts of calls, e.g. thousands of concurrent {@code setAnnotation} or
+         * counter updates. Calls over the limit are queued, rejected or coalesced as set in the policy, and the state of
+         * each limit is available in {@link Agones#concurrencyLimitStats()}. The deadline of a queued call includes its
+         * time in the queue.
+         *
+         * @param policy the concurrency limit policy, e.g. {@link ConcurrencyLimitPolicy#defaults()}. Default is
+         * {@link ConcurrencyLimitPolicy#none()}
+         *
+         * @return The Agones Builder instance.
+         */
+        Builder withConcurrencyLimitPolicy(ConcurrencyLimitPolicy policy);
+
         /**
          * Sets the executor for the game server watcher.
          *
@@ -848,6 +1272,21 @@ public interface Agones extends AutoCloseable {
          */
         Builder withGameServerWatcherExecutor(ExecutorService executor);
 
+        /**
+         * Runs the call callbacks and the game server watchers on virtual threads.
+         * <p>
+         * Futures are completed on a new virtual thread per call, and if no game server watcher executor is set, the
+         * watchers are enabled and dispatched on virtual threads as well. On JDKs without virtual threads, callbacks stay
+         * on the gRPC executor and the watchers fall back to {@link Executors#newSingleThreadExecutor()}.
+         *
+         * @param enabled {@code true} to use virtual threads. Disabled by default.
+         *
+         * @return The Agones Builder instance.
+         *
+         * @see Agones#usesVirtualThreads()
+         */
+        Builder withVirtualThreads(boolean enabled);
+
         /**
          * Sets the health check interval for the Agones Builder.
          *
@@ -866,5 +1305,121 @@ public interface Agones extends AutoCloseable {
          * @return The Agones Builder instance.
          */
         Builder withHealthCheckExecutor(ScheduledExecutorService executor);
+
+        /**
+         * Sets the backoff for reopening a broken health stream.
+         * <p>
+         * The backoff doubles after each failed attempt, up to the max backoff, and is jittered.
+         *
+         * @param initialBackoff The backoff before the first attempt. Default is 250 milliseconds.
+         * @param maxBackoff The max backoff between attempts. Default is 5 seconds.
+         *
+         * @return The Agones Builder instance.
+         */
+        Builder withHealthCheckBackoff(Duration initialBackoff, Duration maxBackoff);
+
+        /**
+         * Sets the backoff for reopening a broken game server watch stream.
+         * <p>
+         * The backoff doubles after each failed attempt, up to the max backoff, and is jittered. Reopening is scheduled
+         * on the health check executor, or on an executor created when the stream first breaks if it is disabled.
+         *
+         * @param initialBackoff The backoff before the first attempt. Default is 250 milliseconds.
+         * @param maxBackoff The max backoff between attempts. Default is 5 seconds.
+         *
+         * @return The Agones Builder instance.
+         */
+        Builder withGameServerWatchBackoff(Duration initialBackoff, Duration maxBackoff);
+
+        /**
+         * Enables adaptive health checking.
+         * <p>
+         * The ping period is taken from {@code Spec.Health#period_seconds} of the game server and shortened by the
+         * margin, e.g. a margin of 0.5 pings twice per period. Pings start at once with the default period of 5 seconds,
+         * shortened by the margin, while the game server is read, and the read is retried with the health check backoff
+         * until it succeeds. The period is re-tuned whenever the watch stream reports a change. No pings are sent while
+         * {@code Spec.Health#disabled} is set.
+         * <p>
+         * The delay and period given to {@link #withHealthCheck(Duration, Duration)} are ignored in adaptive mode.
+         *
+         * @param margin The fraction of the period to keep as a safety margin, in the range [0, 1). A negative value
+         *               disables it. Disabled by default.
+         *
+         * @return The Agones Builder instance.
+         */
+        Builder withAdaptiveHealthCheck(double margin);
+
+        /**
+         * Enables coalescing of counter increments and decrements.
+         * <p>
+         * Deltas passed to {@link Agones#increaseCounter(String, long, StreamObserver)} and
+         * {@link Agones#decreaseCounter(String, long, StreamObserver)} are summed per counter name and sent as a single
+         * update once per flush interval. Every caller receives the counter that results from the combined update, and
+         * every caller receives the error if the combined update fails.
+         * <p>
+         * The combined update is sent from the counter batching executor, so the gRPC deadline and cancellation of the
+         * callers do not apply to it. Cancelling a caller does not take its delta back, and a deadline set with
+         * {@link Agones#withDeadline(Duration, Supplier)} only bounds the wait for the answer. Only the deadline policy
+         * of the counter and list methods bounds the update itself.
+         *
+         * @param flushInterval The interval between flushes, at least 1 millisecond. {@code null} to disable it.
+         *                      Disabled by default.
+         * @param maxPending The number of pending deltas for a single counter that triggers an early flush.
+         *
+         * @return The Agones Builder instance.
+         */
+        Builder withCounterBatching(Duration flushInterval, int maxPending);
+
+        /**
+         * Sets the executor that flushes coalesced counter updates.
+         *
+         * @param executor the scheduled executor service to be used for counter batching. Default is {@link Executors#newSingleThreadScheduledExecutor()}
+         *
+         * @return The Agones Builder instance.
+         */
+        Builder withCounterBatchingExecutor(ScheduledExecutorService executor);
+
+        /**
+         * Enables the game server snapshot cache.
+         * <p>
+         * The latest game server received from the watch stream is kept in memory and returned by
+         * {@link Agones#getGameServer(StreamObserver)} without a call to the server. A call is made only when there is no
+         * snapshot yet or the snapshot is older than the max staleness.
+         *
+         * @param maxStaleness The max age of a snapshot that can be served. {@code null} to disable it. Disabled by default.
+         *
+         * @return The Agones Builder instance.
+         */
+        Builder withGameServerCache(Duration maxStaleness);
+
+        /**
+         * Enables the counters and lists cache.
+         * <p>
+         * Counters and lists are kept up to date from the watch stream and from the responses of counter and list
+         * updates, so {@link Agones#getCounter(String, StreamObserver)} and {@link Agones#getList(String, StreamObserver)}
+         * are answered from memory while the cached value is fresh. Values written through this SDK are visible to the
+         * next read right away.
+         *
+         * @param maxStaleness The max age of a cached value that can be served. {@code null} to disable it. Disabled by default.
+         *
+         * @return The Agones Builder instance.
+         */
+        Builder withCountsAndListsCache(Duration maxStaleness);
+
+        /**
+         * Enables the in-memory mirror of the connected players.
+         * <p>
+         * The mirror follows successful {@link Agones#playerConnect(String, StreamObserver)} and
+         * {@link Agones#playerDisconnect(String, StreamObserver)} calls and reconciles against the player ids reported
+         * by the watch stream. Once it has been synced, {@link Agones#isPlayerConnected(String, StreamObserver)},
+         * {@link Agones#getConnectedPlayersFuture(StreamObserver)} and {@link Agones#getPlayerCount(StreamObserver)} are
+         * answered from memory.
+         *
+         * @param reconcileGrace The time a player connected or disconnected through this SDK is kept as it is, even if
+         *                       the reported player ids do not agree yet. {@code null} to disable it. Disabled by default.
+         *
+         * @return The Agones Builder instance.
+         */
+        Builder withPlayerTrackingCache(Duration reconcileGrace);
     }
 }
@@ -0,0 +1,228 @@
+package net.infumia.agones4j;
+
+import allocation.Allocation;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+
+/**
+ * The interface provides methods to allocate game servers through the Agones allocator service.
+ */
+public interface AgonesAllocator extends AutoCloseable {
+    /**
+     * Retrieves a new instance of the Agones allocator builder.
+     *
+     * @return A new instance of the Agones allocator builder.
+     */
+    static AgonesAllocator.Builder builder() {
+        return new AgonesAllocatorImpl.Builder();
+    }
+
+    /**
+     * Allocates a game server.
+     * <p>
+     * Requests over the max in-flight limit are queued and sent as soon as an earlier allocation completes, in the gRPC
+     * context of the caller. A queued request whose context is cancelled is not sent and fails with
+     * {@link io.grpc.Status.Code#CANCELLED}. Each allocation is routed to the endpoint with the best moving latency and
+     * error score.
+     *
+     * @param request the allocation request.
+     * @param response the response from server.
+     */
+    void allocate(
+        Allocation.AllocationRequest request,
+        StreamObserver<Allocation.AllocationResponse> response
+    );
+
+    /**
+     * Allocates a game server.
+     * <p>
+     * Requests over the max in-flight limit are queued and sent as soon as an earlier allocation completes. Cancelling
+     * the future of a queued request keeps it from being sent.
+     *
+     * @param request the allocation request.
+     *
+     * @return A future that represents the allocated game server.
+     */
+    default CompletableFuture<Allocation.AllocationResponse> allocateFuture(
+        final Allocation.AllocationRequest request
+    ) {
+        return Internal.observerToFuture(response -> this.allocate(request, response));
+    }
+
+    /**
+     * Allocates a batch of game servers.
+     * <p>
+     * At most {@code parallelism} allocations of the batch are started at the same time. The batch completes once every
+     * allocation has completed, with a result per request in the order of the requests. A failed allocation does not
+     * fail the batch.
+     *
+     * @param requests the allocation requests.
+     * @param parallelism the max number of allocations of the batch running at the same time.
+     * @param response the response with a result per request.
+     */
+    void allocateAll(
+        List<Allocation.AllocationRequest> requests,
+        int parallelism,
+        StreamObserver<List<AllocationResult>> response
+    );
+
+    /**
+     * Allocates a batch of game servers.
+     * <p>
+     * At most {@code parallelism} allocations of the batch are started at the same time. The batch completes once every
+     * allocation has completed, with a result per request in the order of the requests. A failed allocation does not
+     * fail the batch.
+     *
+     * @param requests the allocation requests.
+     * @param parallelism the max number of allocations of the batch running at the same time.
+     *
+     * @return A future that represents a result per request.
+     */
+    default CompletableFuture<List<AllocationResult>> allocateAllFuture(
+        final List<Allocation.AllocationRequest> requests,
+        final int parallelism
+    ) {
+        return Internal.observerToFuture(response ->
+            this.allocateAll(requests, parallelism, response)
+        );
+    }
+
+    /**
+     * Allocates a batch of game servers from a template.
+     * <p>
+     * Every allocation of the batch sends the same prebuilt request of the template.
+     *
+     * @param template the allocation template.
+     * @param count the number of game servers to allocate.
+     * @param parallelism the max number of allocations of the batch running at the same time.
+     * @param response the response with a result per allocation.
+     */
+    default void allocateAll(
+        final AllocationTemplate template,
+        final int count,
+        final int parallelism,
+        final StreamObserver<List<AllocationResult>> response
+    ) {
+        this.allocateAll(Collections.nCopies(count, template.request()), parallelism, response);
+    }
+
+    /**
+     * Allocates a batch of game servers from a template.
+     * <p>
+     * Every allocation of the batch sends the same prebuilt request of the template.
+     *
+     * @param template the allocation template.
+     * @param count the number of game servers to allocate.
+     * @param parallelism the max number of allocations of the batch running at the same time.
+     *
+     * @return A future that represents a result per allocation.
+     */
+    default CompletableFuture<List<AllocationResult>> allocateAllFuture(
+        final AllocationTemplate template,
+        final int count,
+        final int parallelism
+    ) {
+        return Internal.observerToFuture(response ->
+            this.allocateAll(template, count, parallelism, response)
+        );
+    }
+
+    /**
+     * A builder for creating instances of Agones allocator with specified configurations.
+     */
+    interface Builder {
+        /**
+         * Builds an instance of Agones allocator using the specified configuration.
+         *
+         * @return An instance of Agones allocator.
+         *
+         * @throws IllegalStateException if no endpoint is specified.
+         */
+        AgonesAllocator build();
+
+        /**
+         * Adds an allocator endpoint.
+         * <p>
+         * The channels of the endpoint are created by the channel factory.
+         *
+         * @param target The target of the allocator endpoint.
+         *
+         * @return The Agones allocator Builder instance.
+         *
+         * @see #withChannelFactory(Function)
+         */
+        Builder withEndpoint(String target);
+
+        /**
+         * Adds an allocator endpoint that uses the given channel.
+         *
+         * @param channel The ManagedChannel of the allocator endpoint.
+         *
+         * @return The Agones allocator Builder instance.
+         */
+        Builder withEndpoint(ManagedChannel channel);
+
+        /**
+         * Sets the factory that creates channels for the endpoints added by {@link #withEndpoint(String)}.
+         * <p>
+         * The allocator service usually requires mutual TLS, so the factory is the place to configure client
+         * certificates.
+         *
+         * @param factory The factory that creates a channel for a target. Default is {@link ManagedChannelBuilder#forTarget(String)}
+         *
+         * @return The Agones allocator Builder instance.
+         */
+        Builder withChannelFactory(Function<String, ManagedChannel> factory);
+
+        /**
+         * Sets the number of long-lived channels opened to each endpoint added by {@link #withEndpoint(String)}.
+         *
+         * @param channels The number of channels per endpoint. Default is 1.
+         *
+         * @return The Agones allocator Builder instance.
+         */
+        Builder withChannelsPerEndpoint(int channels);
+
+        /**
+         * Sets the max number of allocations that can be in flight at the same time.
+         *
+         * @param maxInFlight The max in-flight allocations. Default is 1024.
+         *
+         * @return The Agones allocator Builder instance.
+         */
+        Builder withMaxInFlight(int maxInFlight);
+
+        /**
+         * Enables hedged allocations across endpoints.
+         * <p>
+         * Each allocation goes to the endpoint with the best moving latency and error score. If it has not completed
+         * after the given percentile of recent allocation latencies, a second attempt is sent to the next best endpoint.
+         * The first attempt that succeeds wins and the other one is cancelled.
+         * <p>
+         * Allocation is not idempotent. A cancelled attempt that already reached its allocator may still allocate a
+         * game server, which is then left unused until it is shut down.
+         *
+         * @param percentile The percentile of recent latencies to wait before hedging, e.g. 95. 0 to disable it.
+         *                   Disabled by default.
+         *
+         * @return The Agones allocator Builder instance.
+         */
+        Builder withHedging(double percentile);
+
+        /**
+         * Sets the executor that schedules hedged allocations.
+         *
+         * @param executor the scheduled executor service to be used for hedging. Default is {@link Executors#newSingleThreadScheduledExecutor()}
+         *
+         * @return The Agones allocator Builder instance.
+         */
+        Builder withHedgingExecutor(ScheduledExecutorService executor);
+    }
+}
@@ -0,0 +1,296 @@
+package net.infumia.agones4j;
+
+import allocation.Allocation;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+final class AgonesAllocatorImpl implements AgonesAllocator {
+
+    private static final long HEDGING_MIN_SAMPLES = 20L;
+    private static final double DEFAULT_BASELINE_NANOS = TimeUnit.MILLISECONDS.toNanos(10L);
+
+    private final List<AllocatorEndpoint> endpoints;
+    private final LatencyHistogram latencies = new LatencyHistogram(1024L);
+
+    private final double hedgingPercentile;
+    private final ScheduledExecutorService hedgingExecutor;
+    private final boolean ownsHedgingExecutor;
+
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Queue<Pending> pending = new ConcurrentLinkedQueue<>();
+
+    private AgonesAllocatorImpl(final Builder builder) {
+        this.endpoints = builder.endpoints();
+        this.maxInFlight = builder.maxInFlight;
+        this.hedgingPercentile = builder.hedgingPercentile;
+        this.ownsHedgingExecutor = builder.hedgingPercentile > 0.0D && builder.hedgingExecutor == null;
+        this.hedgingExecutor = this.ownsHedgingExecutor
+            ? Executors.newSingleThreadScheduledExecutor()
+            : builder.hedgingExecutor;
+    }
+
+    @Override
+    public void allocate(
+        final Allocation.AllocationRequest request,
+        final StreamObserver<Allocation.AllocationResponse> response
+    ) {
+        this.pending.add(new Pending(request, response));
+        this.drain();
+    }
+
+    @Override
+    public void allocateAll(
+        final List<Allocation.AllocationRequest> requests,
+        final int parallelism,
+        final StreamObserver<List<AllocationResult>> response
+    ) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1!");
+        }
+        new AllocationBatch(this, requests, response).start(parallelism);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (this.ownsHedgingExecutor) {
+            this.hedgingExecutor.shutdownNow();
+        }
+        for (final AllocatorEndpoint endpoint : this.endpoints) {
+            endpoint.shutdown();
+        }
+        for (final AllocatorEndpoint endpoint : this.endpoints) {
+            endpoint.awaitTermination(5L, TimeUnit.SECONDS);
+        }
+    }
+
+    private void drain() {
+        while (!this.pending.isEmpty()) {
+            final int current = this.inFlight.get();
+            if (current >= this.maxInFlight) {
+                return;
+            }
+            if (!this.inFlight.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            final Pending pending = this.pending.poll();
+            if (pending == null) {
+                this.inFlight.decrementAndGet();
+                continue;
+            }
+            if (pending.context.isCancelled()) {
+                this.inFlight.decrementAndGet();
+                pending.response.onError(
+                    Contexts.statusFromCancelled(pending.context).asRuntimeException()
+                );
+                continue;
+            }
+            pending.context.run(() -> this.send(pending));
+        }
+    }
+
+    private void send(final Pending pending) {
+        final AllocationCall call = new AllocationCall(
+            pending.request,
+            pending.response,
+            this.latencies,
+            this::release
+        );
+        call.attempt(this.bestEndpoint(null));
+        if (
+            this.hedgingPercentile > 0.0D &&
+            this.endpoints.size() > 1 &&
+            this.latencies.count() >= AgonesAllocatorImpl.HEDGING_MIN_SAMPLES &&
+            !call.isDone()
+        ) {
+            call.hedge(
+                this.hedgingExecutor.schedule(
+                        pending.context.wrap(() ->
+                            call.attempt(this.bestEndpoint(call.firstEndpoint()))
+                        ),
+                        this.latencies.percentile(this.hedgingPercentile),
+                        TimeUnit.NANOSECONDS
+                    )
+            );
+        }
+    }
+
+    private AllocatorEndpoint bestEndpoint(final AllocatorEndpoint excluded) {
+        final long now = System.nanoTime();
+        final double baseline = this.baselineLatency(now);
+        AllocatorEndpoint best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (final AllocatorEndpoint endpoint : this.endpoints) {
+            if (endpoint == excluded) {
+                continue;
+            }
+            final double score = endpoint.score(now, baseline);
+            if (best == null || score < bestScore) {
+                best = endpoint;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    private double baselineLatency(final long now) {
+        final double[] latencies = new double[this.endpoints.size()];
+        int healthy = 0;
+        for (final AllocatorEndpoint endpoint : this.endpoints) {
+            final double latency = endpoint.healthyLatency(now);
+            if (latency >= 0.0D) {
+                latencies[healthy++] = latency;
+            }
+        }
+        if (healthy == 0) {
+            return AgonesAllocatorImpl.DEFAULT_BASELINE_NANOS;
+        }
+        Arrays.sort(latencies, 0, healthy);
+        return Math.max(1.0D, latencies[healthy / 2]);
+    }
+
+    private void release() {
+        this.inFlight.decrementAndGet();
+        this.drain();
+    }
+
+    private static final class Pending {
+
+        private final Allocation.AllocationRequest request;
+        private final StreamObserver<Allocation.AllocationResponse> response;
+        private final Context context = Context.current();
+
+        private Pending(
+            final Allocation.AllocationRequest request,
+            final StreamObserver<Allocation.AllocationResponse> response
+        ) {
+            this.request = request;
+            this.response = response;
+        }
+    }
+
+    static final class Builder implements AgonesAllocator.Builder {
+
+        private List<String> targets = Collections.emptyList();
+        private List<ManagedChannel> channels = Collections.emptyList();
+        private Function<String, ManagedChannel> channelFactory = target ->
+            ManagedChannelBuilder.forTarget(target).build();
+        private int channelsPerEndpoint = 1;
+        private int maxInFlight = 1024;
+        private double hedgingPercentile;
+        private ScheduledExecutorService hedgingExecutor;
+
+        Builder() {}
+
+        @Override
+        public AgonesAllocator build() {
+            if (this.targets.isEmpty() && this.channels.isEmpty()) {
+                throw new IllegalStateException("No allocator endpoint is specified!");
+            }
+            return new AgonesAllocatorImpl(this);
+        }
+
+        @Override
+        public AgonesAllocator.Builder withEndpoint(final String target) {
+            final Builder builder = this.copy();
+            builder.targets = new ArrayList<>(this.targets);
+            builder.targets.add(target);
+            return builder;
+        }
+
+        @Override
+        public AgonesAllocator.Builder withEndpoint(final ManagedChannel channel) {
+            final Builder builder = this.copy();
+            builder.channels = new ArrayList<>(this.channels);
+            builder.channels.add(channel);
+            return builder;
+        }
+
+        @Override
+        public AgonesAllocator.Builder withChannelFactory(
+            final Function<String, ManagedChannel> factory
+        ) {
+            final Builder builder = this.copy();
+            builder.channelFactory = factory;
+            return builder;
+        }
+
+        @Override
+        public AgonesAllocator.Builder withChannelsPerEndpoint(final int channels) {
+            if (channels < 1) {
+                throw new IllegalArgumentException("Channels per endpoint must be at least 1!");
+            }
+            final Builder builder = this.copy();
+            builder.channelsPerEndpoint = channels;
+            return builder;
+        }
+
+        @Override
+        public AgonesAllocator.Builder withMaxInFlight(final int maxInFlight) {
+            if (maxInFlight < 1) {
+                throw new IllegalArgumentException("Max in-flight must be at least 1!");
+            }
+            final Builder builder = this.copy();
+            builder.maxInFlight = maxInFlight;
+            return builder;
+        }
+
+        @Override
+        public AgonesAllocator.Builder withHedging(final double percentile) {
+            if (percentile < 0.0D || percentile >= 100.0D) {
+                throw new IllegalArgumentException("Percentile must be in the range [0, 100)!");
+            }
+            final Builder builder = this.copy();
+            builder.hedgingPercentile = percentile;
+            return builder;
+        }
+
+        @Override
+        public AgonesAllocator.Builder withHedgingExecutor(final ScheduledExecutorService executor) {
+            final Builder builder = this.copy();
+            builder.hedgingExecutor = executor;
+            return builder;
+        }
+
+        private Builder copy() {
+            final Builder builder = new Builder();
+            builder.targets = this.targets;
+            builder.channels = this.channels;
+            builder.channelFactory = this.channelFactory;
+            builder.channelsPerEndpoint = this.channelsPerEndpoint;
+            builder.maxInFlight = this.maxInFlight;
+            builder.hedgingPercentile = this.hedgingPercentile;
+            builder.hedgingExecutor = this.hedgingExecutor;
+            return builder;
+        }
+
+        private List<AllocatorEndpoint> endpoints() {
+            final List<AllocatorEndpoint> endpoints = new ArrayList<>();
+            for (final String target : this.targets) {
+                final List<ManagedChannel> channels = new ArrayList<>();
+                for (int i = 0; i < this.channelsPerEndpoint; i++) {
+                    channels.add(this.channelFactory.apply(target));
+                }
+                endpoints.add(new AllocatorEndpoint(channels));
+            }
+            for (final ManagedChannel channel : this.channels) {
+                endpoints.add(new AllocatorEndpoint(Collections.singletonList(channel)));
+            }
+            return endpoints;
+        }
+    }
+}
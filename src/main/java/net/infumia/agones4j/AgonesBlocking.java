@@ -0,0 +1,216 @@
+package net.infumia.agones4j;
+
+import agones.dev.sdk.Sdk;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The interface provides synchronous methods to interact with Agones.
+ * <p>
+ * Every method blocks the calling thread until the SDK server responds and returns the value directly, without the
+ * future and observer adapters of the asynchronous methods. It is meant for virtual threads, where blocking is cheap.
+ * <p>
+ * Failed calls throw {@link io.grpc.StatusRuntimeException}, e.g. {@link io.grpc.Status.Code#DEADLINE_EXCEEDED} when
+ * the deadline passes. The caches of the {@link Agones} instance are used and updated the same way as in the
+ * asynchronous methods.
+ *
+ * @see Agones#blocking()
+ */
+public interface AgonesBlocking {
+    /**
+     * Creates a copy that applies the deadline to every call it makes.
+     *
+     * @param deadline the deadline of each call, measured from the start of the call.
+     *
+     * @return A new blocking instance with the deadline.
+     */
+    AgonesBlocking withDeadline(Duration deadline);
+
+    /**
+     * Marks the game server as ready.
+     */
+    void ready();
+
+    /**
+     * Allocates the game server.
+     */
+    void allocate();
+
+    /**
+     * Reserves the game server for the given duration.
+     *
+     * @param duration the duration of the reservation.
+     */
+    void reserve(Duration duration);
+
+    /**
+     * Shuts down the game server.
+     */
+    void shutdown();
+
+    /**
+     * Retrieves the game server.
+     *
+     * @return the game server.
+     */
+    Sdk.GameServer getGameServer();
+
+    /**
+     * Sets the annotation of the game server.
+     *
+     * @param key the key to set.
+     * @param value the value to set.
+     */
+    void setAnnotation(String key, String value);
+
+    /**
+     * Sets the label of the game server.
+     *
+     * @param key the key to set.
+     * @param value the value to set.
+     */
+    void setLabel(String key, String value);
+
+    /**
+     * Retrieves the connected players.
+     *
+     * @return the player ids of the connected players.
+     */
+    List<String> getConnectedPlayers();
+
+    /**
+     * Connects the player.
+     *
+     * @param playerId the player id to connect.
+     *
+     * @return {@code true} if the player was not connected before, {@code false} otherwise.
+     */
+    boolean playerConnect(String playerId);
+
+    /**
+     * Disconnects the player.
+     *
+     * @param playerId the player id to disconnect.
+     *
+     * @return {@code true} if the player was connected before, {@code false} otherwise.
+     */
+    boolean playerDisconnect(String playerId);
+
+    /**
+     * Checks if the player is connected.
+     *
+     * @param playerId the player id to check.
+     *
+     * @return {@code true} if the player is connected, {@code false} otherwise.
+     */
+    boolean isPlayerConnected(String playerId);
+
+    /**
+     * Sets the player capacity.
+     *
+     * @param capacity the capacity to set.
+     */
+    void setPlayerCapacity(long capacity);
+
+    /**
+     * Retrieves the player capacity.
+     *
+     * @return the player capacity.
+     */
+    long getPlayerCapacity();
+
+    /**
+     * Retrieves the player count.
+     *
+     * @return the player count.
+     */
+    long getPlayerCount();
+
+    /**
+     * Gets a list.
+     *
+     * @param name the name of the list.
+     *
+     * @return the list.
+     */
+    AgonesList getList(String name);
+
+    /**
+     * Adds the value to the list.
+     *
+     * @param name the name of the list.
+     * @param value the value to add.
+     *
+     * @return the list.
+     */
+    AgonesList addList(String name, String value);
+
+    /**
+     * Removes the value from the list.
+     *
+     * @param name the name of the list.
+     * @param value the value to remove.
+     *
+     * @return the list.
+     */
+    AgonesList removeList(String name, String value);
+
+    /**
+     * Updates the list.
+     *
+     * @param list the list to update.
+     * @param updateMask the fields of the list to update.
+     *
+     * @return the list.
+     */
+    AgonesList updateList(AgonesList list, List<String> updateMask);
+
+    /**
+     * Gets a counter.
+     *
+     * @param name the name of the counter.
+     *
+     * @return the counter.
+     */
+    AgonesCounter getCounter(String name);
+
+    /**
+     * Increases the count of the counter by the specified amount.
+     *
+     * @param name the name of the counter.
+     * @param amount the amount to increase.
+     *
+     * @return the counter.
+     */
+    AgonesCounter increaseCounter(String name, long amount);
+
+    /**
+     * Decreases the count of the counter by the specified amount.
+     *
+     * @param name the name of the counter.
+     * @param amount the amount to decrease.
+     *
+     * @return the counter.
+     */
+    AgonesCounter decreaseCounter(String name, long amount);
+
+    /**
+     * Sets the count of the counter.
+     *
+     * @param name the name of the counter.
+     * @param amount the count to set.
+     *
+     * @return the counter.
+     */
+    AgonesCounter setCounterCount(String name, long amount);
+
+    /**
+     * Sets the capacity of the counter.
+     *
+     * @param name the name of the counter.
+     * @param amount the capacity to set.
+     *
+     * @return the counter.
+     */
+    AgonesCounter setCounterCapacity(String name, long amount);
+}
@@ -5,45 +5,307 @@ import agones.dev.sdk.alpha.Alpha;
 import agones.dev.sdk.beta.Beta;
 import com.google.protobuf.FieldMask;
 import com.google.protobuf.Int64Value;
+import io.grpc.Channel;
+import io.grpc.ClientInterceptors;
+import io.grpc.Context;
+import io.grpc.Deadline;
 import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.stub.AbstractStub;
 import io.grpc.stub.StreamObserver;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 final class AgonesImpl implements Agones {
 
+    private static final String GET_GAME_SERVER =
+        agones.dev.sdk.SDKGrpc.SERVICE_NAME + "/GetGameServer";
+    private static final String GET_PLAYER_COUNT =
+        agones.dev.sdk.alpha.SDKGrpc.SERVICE_NAME + "/GetPlayerCount";
+    private static final String GET_LIST = agones.dev.sdk.beta.SDKGrpc.SERVICE_NAME + "/GetList";
+    private static final String GET_COUNTER =
+        agones.dev.sdk.beta.SDKGrpc.SERVICE_NAME + "/GetCounter";
+    private static final Sdk.GameServer.Spec.Health DEFAULT_HEALTH =
+        Sdk.GameServer.Spec.Health.newBuilder().setPeriodSeconds(5).build();
+
     private final ManagedChannel channel;
 
     private final agones.dev.sdk.SDKGrpc.SDKStub sdk;
     private final agones.dev.sdk.beta.SDKGrpc.SDKStub beta;
     private final agones.dev.sdk.alpha.SDKGrpc.SDKStub alpha;
+    private final Blocking blocking;
+    private final DeadlineInterceptor deadlineInterceptor;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final Retrier retrier;
+    private final Hedger hedger;
 
+    private final ExecutorService virtualThreadExecutor;
     private final ExecutorService gameServerWatcherExecutor;
-    private List<Consumer<Sdk.GameServer>> gameServerWatchers;
+    private final boolean ownsGameServerWatcherExecutor;
+    private final WatcherDispatcher<Sdk.GameServer> gameServerWatchers;
+    private final GameServerEvents gameServerEvents;
+    private final GameServerWatch gameServerWatch;
+    private final GameServerWaiters gameServerWaiters;
+    private final GameServerCache gameServerCache;
+    private final CountsAndListsCache countsAndListsCache;
+    private final PlayerTracker playerTracker;
 
     private final Duration healthCheckDelay;
     private final ScheduledExecutorService healthCheckExecutor;
     private final Duration healthCheckPeriod;
-    private ScheduledFuture<?> healthCheckTask;
+    private final HealthChecker healthChecker;
+    private final double adaptiveHealthCheckMargin;
+    private volatile boolean adaptiveHealthChecking;
+
+    private final CounterBatcher counterBatcher;
+
+    private ScheduledExecutorService scheduler;
+    private boolean ownsScheduler;
 
     private AgonesImpl(final Builder builder) {
         this.channel = builder.channel;
-        this.gameServerWatcherExecutor = builder.gameServerWatcherExecutor;
+        this.virtualThreadExecutor = builder.virtualThreads ? VirtualThreads.newExecutor() : null;
+        this.ownsGameServerWatcherExecutor =
+            builder.virtualThreads && builder.gameServerWatcherExecutor == null;
+        this.gameServerWatcherExecutor = builder.gameServerWatcherExecutor(
+            this.virtualThreadExecutor
+        );
+        this.gameServerWatchers = this.gameServerWatcherExecutor == null
+            ? null
+            : new WatcherDispatcher<>(this.gameServerWatcherExecutor);
+        this.gameServerEvents = this.gameServerWatcherExecutor == null
+            ? null
+            : new GameServerEvents(this.gameServerWatcherExecutor);
         this.healthCheckExecutor = builder.healthCheckExecutor();
         this.healthCheckDelay = builder.healthCheckDelay;
         this.healthCheckPeriod = builder.healthCheckPeriod;
-        this.sdk = agones.dev.sdk.SDKGrpc.newStub(builder.channel);
-        this.beta = agones.dev.sdk.beta.SDKGrpc.newStub(builder.channel);
-        this.alpha = agones.dev.sdk.alpha.SDKGrpc.newStub(builder.channel);
+        this.adaptiveHealthCheckMargin = builder.adaptiveHealthCheckMargin;
+        this.healthChecker = this.healthCheckExecutor == null
+            ? null
+            : new HealthChecker(
+                this::openHealthCheckStream,
+                this.healthCheckExecutor,
+                builder.healthCheckInitialBackoff.toNanos(),
+                builder.healthCheckMaxBackoff.toNanos()
+            );
+        this.deadlineInterceptor = builder.deadlineInterceptor();
+        this.concurrencyLimiter = builder.concurrencyLimiter(this::scheduler);
+        final Channel channel = builder.interceptedChannel(
+            this.deadlineInterceptor,
+            this.concurrencyLimiter
+        );
+        this.retrier = builder.retryPolicy.isEnabled()
+            ? new Retrier(builder.retryPolicy, this::scheduler)
+            : null;
+        this.hedger = builder.hedgePolicy.isEnabled()
+            ? new Hedger(builder.hedgePolicy, this::scheduler)
+            : null;
+        this.sdk = this.withCallbackExecutor(agones.dev.sdk.SDKGrpc.newStub(channel));
+        this.gameServerWaiters = new GameServerWaiters(this::scheduler);
+        this.gameServerWatch = new GameServerWatch(
+            response ->
+                Context.ROOT.run(() ->
+                    this.sdk.watchGameServer(Sdk.Empty.getDefaultInstance(), response)
+                ),
+            this::onGameServer,
+            this::onGameServerResynced,
+            this::scheduler,
+            builder.gameServerWatchInitialBackoff.toNanos(),
+            builder.gameServerWatchMaxBackoff.toNanos()
+        );
+        this.beta = this.withCallbackExecutor(agones.dev.sdk.beta.SDKGrpc.newStub(channel));
+        this.alpha = this.withCallbackExecutor(agones.dev.sdk.alpha.SDKGrpc.newStub(channel));
+        this.blocking = new Blocking(
+            agones.dev.sdk.SDKGrpc.newBlockingStub(channel),
+            agones.dev.sdk.beta.SDKGrpc.newBlockingStub(channel),
+            agones.dev.sdk.alpha.SDKGrpc.newBlockingStub(channel),
+            0L
+        );
+        this.counterBatcher = builder.counterBatcher(this::updateCounterDiff);
+        this.gameServerCache = builder.gameServerCache();
+        this.countsAndListsCache = builder.countsAndListsCache();
+        this.playerTracker = builder.playerTracker();
+        if (this.playerTracker != null) {
+            this.alpha.getConnectedPlayers(
+                    Alpha.Empty.getDefaultInstance(),
+                    Internal.observerOnNext(players ->
+                        this.playerTracker.reconcile(players.getListList())
+                    )
+                );
+        }
+        if (
+            this.gameServerCache != null ||
+            this.countsAndListsCache != null ||
+            this.playerTracker != null
+        ) {
+            this.watchGameServer();
+        }
+    }
+
+    private <S extends AbstractStub<S>> S withCallbackExecutor(final S stub) {
+        if (this.virtualThreadExecutor == null) {
+            return stub;
+        }
+        return stub.withExecutor(this.virtualThreadExecutor);
+    }
+
+    private <T> void retrying(
+        final MethodGroup group,
+        final StreamObserver<T> response,
+        final Consumer<StreamObserver<T>> call
+    ) {
+        if (this.retrier == null) {
+            call.accept(response);
+            return;
+        }
+        this.retrier.call(call, response, this.policyDeadlineNanos(group));
+    }
+
+    private <T> void hedging(
+        final String method,
+        final MethodGroup group,
+        final StreamObserver<T> response,
+        final Consumer<StreamObserver<T>> call
+    ) {
+        if (this.hedger == null) {
+            this.retrying(group, response, call);
+            return;
+        }
+        this.retrying(group, response, observer -> this.hedger.call(method, call, observer));
+    }
+
+    private long policyDeadlineNanos(final MethodGroup group) {
+        return this.deadlineInterceptor == null
+            ? 0L
+            : this.deadlineInterceptor.deadlineNanos(group);
+    }
+
+    private <S extends AbstractStub<S>, T> T retryingBlocking(
+        final S stub,
+        final MethodGroup group,
+        final Function<S, T> call
+    ) {
+        if (this.retrier == null) {
+            return call.apply(stub);
+        }
+        final S bounded = this.withPolicyDeadline(stub, group);
+        return this.retrier.callBlocking(
+                () -> call.apply(bounded),
+                bounded.getCallOptions().getDeadline()
+            );
+    }
+
+    private <S extends AbstractStub<S>> S withPolicyDeadline(
+        final S stub,
+        final MethodGroup group
+    ) {
+        final long deadlineNanos = this.policyDeadlineNanos(group);
+        if (deadlineNanos == 0L) {
+            return stub;
+        }
+        final Deadline deadline = Deadline.after(deadlineNanos, TimeUnit.NANOSECONDS);
+        final Deadline current = stub.getCallOptions().getDeadline();
+        if (current != null && current.isBefore(deadline)) {
+            return stub;
+        }
+        return stub.withDeadline(deadline);
+    }
+
+    @Override
+    public boolean usesVirtualThreads() {
+        return this.virtualThreadExecutor != null;
+    }
+
+    @Override
+    public Executor executor() {
+        if (this.virtualThreadExecutor == null) {
+            return ForkJoinPool.commonPool();
+        }
+        return this.virtualThreadExecutor;
+    }
+
+    @Override
+    public AgonesBlocking blocking() {
+        return this.blocking;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> withDeadline(
+        final Duration deadline,
+        final Supplier<? extends CompletableFuture<T>> calls
+    ) {
+        Objects.requireNonNull(deadline, "deadline");
+        Objects.requireNonNull(calls, "calls");
+        final Context.CancellableContext context = Context.current()
+            .withDeadlineAfter(deadline.toNanos(), TimeUnit.NANOSECONDS, this.scheduler());
+        final CompletableFuture<T> future;
+        final Context previous = context.attach();
+        try {
+            future = calls.get();
+        } catch (final RuntimeException e) {
+            context.cancel(e);
+            throw e;
+        } finally {
+            context.detach(previous);
+        }
+        context.addListener(
+            cancelled ->
+                future.completeExceptionally(
+                    Status.DEADLINE_EXCEEDED.withDescription(
+                        "Deadline of " + deadline + " is exceeded"
+                    ).asRuntimeException()
+                ),
+            Runnable::run
+        );
+        future.whenComplete((value, error) -> context.cancel(null));
+        return future;
+    }
+
+    @Override
+    public Map<MethodGroup, ConcurrencyLimitStats> concurrencyLimitStats() {
+        if (this.concurrencyLimiter == null) {
+            return Collections.emptyMap();
+        }
+        return this.concurrencyLimiter.stats();
+    }
+
+    @Override
+    public Map<String, Long> hedgedCalls() {
+        if (this.hedger == null) {
+            return Collections.emptyMap();
+        }
+        return this.hedger.hedges();
+    }
+
+    @Override
+    public Map<String, Long> deadlineTimeouts() {
+        if (this.deadlineInterceptor == null) {
+            return Collections.emptyMap();
+        }
+        return this.deadlineInterceptor.timeouts();
     }
 
     @Override
@@ -57,57 +319,171 @@ final class AgonesImpl implements Agones {
             this.gameServerWatcherExecutor,
             "Game server watcher is not enabled!"
         );
+        this.gameServerWatchers.add(watcher);
+        this.watchGameServer();
+    }
+
+    @Override
+    public void addGameServerWatcher(
+        final Collection<String> paths,
+        final Consumer<Sdk.GameServer> watcher
+    ) {
+        Objects.requireNonNull(
+            this.gameServerWatcherExecutor,
+            "Game server watcher is not enabled!"
+        );
+        final FieldSelector.Filter filter = FieldSelector.compile(paths).filter();
+        this.gameServerWatchers.add(watcher, filter::changed);
+        this.watchGameServer();
+    }
+
+    @Override
+    public void addGameServerEventListener(
+        final Set<GameServerEvent.Kind> kinds,
+        final Consumer<GameServerEvent> listener
+    ) {
+        Objects.requireNonNull(
+            this.gameServerWatcherExecutor,
+            "Game server watcher is not enabled!"
+        );
+        this.gameServerEvents.add(kinds, listener);
+        this.watchGameServer();
+    }
+
+    private void watchGameServer() {
+        this.gameServerWatch.start();
+    }
+
+    @Override
+    public CompletableFuture<Sdk.GameServer> awaitState(
+        final String state,
+        final Duration timeout
+    ) {
+        Objects.requireNonNull(state, "state");
+        final CompletableFuture<Sdk.GameServer> future =
+            this.gameServerWaiters.awaitState(state, timeout);
+        this.watchGameServer();
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Sdk.GameServer> awaitCondition(
+        final Predicate<Sdk.GameServer> condition,
+        final Duration timeout
+    ) {
+        Objects.requireNonNull(condition, "condition");
+        final CompletableFuture<Sdk.GameServer> future =
+            this.gameServerWaiters.awaitCondition(condition, timeout);
+        this.watchGameServer();
+        return future;
+    }
+
+    private synchronized ScheduledExecutorService scheduler() {
+        if (this.scheduler == null) {
+            if (this.healthCheckExecutor != null) {
+                this.scheduler = this.healthCheckExecutor;
+            } else {
+                this.scheduler = Executors.newSingleThreadScheduledExecutor();
+                this.ownsScheduler = true;
+            }
+        }
+        return this.scheduler;
+    }
+
+    private void onGameServerResynced(final long gapNanos) {
+        if (this.gameServerEvents != null) {
+            this.gameServerEvents.resynced(gapNanos);
+        }
+    }
+
+    private void onGameServer(final Sdk.GameServer gameServer) {
+        if (this.gameServerCache != null) {
+            this.gameServerCache.update(gameServer);
+        }
+        if (this.countsAndListsCache != null) {
+            this.countsAndListsCache.update(gameServer);
+        }
+        if (this.adaptiveHealthChecking) {
+            this.healthChecker.tune(
+                    gameServer.getSpec().getHealth(),
+                    this.adaptiveHealthCheckMargin
+                );
+        }
+        if (this.playerTracker != null && gameServer.getStatus().hasPlayers()) {
+            this.playerTracker.reconcile(gameServer.getStatus().getPlayers().getIdsList());
+        }
+        this.gameServerWaiters.update(gameServer);
+        if (this.gameServerEvents != null) {
+            this.gameServerEvents.update(gameServer);
+        }
+        if (this.gameServerWatchers != null) {
+            this.gameServerWatchers.dispatch(gameServer);
+        }
+    }
+
+    @Override
+    public WatcherStats gameServerWatcherStats() {
         if (this.gameServerWatchers == null) {
-            this.gameServerWatchers = Collections.synchronizedList(new ArrayList<>());
-            final StreamObserver<Sdk.GameServer> response = Internal.observerOnNext(
-                this.gameServerWatcherExecutor,
-                this.gameServerWatchers
+            return new WatcherStats(
+                0L,
+                0L,
+                0L,
+                0L,
+                this.gameServerWatch.reconnects(),
+                this.gameServerWatch.duplicates()
             );
-            this.sdk.watchGameServer(Sdk.Empty.getDefaultInstance(), response);
         }
-        this.gameServerWatchers.add(watcher);
+        return this.gameServerWatchers.stats(
+                this.gameServerWatch.reconnects(),
+                this.gameServerWatch.duplicates()
+            );
     }
 
     @Override
     public boolean canHealthCheck() {
         return (
             this.healthCheckExecutor != null &&
-            this.healthCheckDelay != null &&
-            this.healthCheckPeriod != null
+            ((this.healthCheckDelay != null && this.healthCheckPeriod != null) ||
+                this.isAdaptiveHealthCheck())
         );
     }
 
     @Override
     public void startHealthChecking() {
-        if (
-            this.healthCheckExecutor == null ||
-            this.healthCheckDelay == null ||
-            this.healthCheckPeriod == null
-        ) {
+        if (!this.canHealthCheck()) {
             throw new IllegalStateException("Health check is not enabled!");
         }
-        if (this.healthCheckTask != null) {
-            this.healthCheckTask.cancel(true);
+        if (!this.isAdaptiveHealthCheck()) {
+            this.healthChecker.start(
+                    this.healthCheckDelay.toNanos(),
+                    this.healthCheckPeriod.toNanos()
+                );
+            return;
         }
-        final StreamObserver<Sdk.Empty> request = this.healthCheckStream(Internal.observerEmpty());
-        this.healthCheckTask = this.healthCheckExecutor.scheduleAtFixedRate(
-                () -> {
-                    if (this.healthCheckTask != null && !this.healthCheckTask.isDone()) {
-                        request.onNext(Sdk.Empty.getDefaultInstance());
-                    }
-                },
-                this.healthCheckDelay.toMillis(),
-                this.healthCheckPeriod.toMillis(),
-                TimeUnit.MILLISECONDS
-            );
+        this.adaptiveHealthChecking = true;
+        this.healthChecker.tune(AgonesImpl.DEFAULT_HEALTH, this.adaptiveHealthCheckMargin);
+        this.getGameServer(new HealthFetch(0));
+        this.watchGameServer();
     }
 
     @Override
     public void stopHealthChecking() {
-        if (this.healthCheckTask != null) {
-            this.healthCheckTask.cancel(true);
-            this.healthCheckTask = null;
+        this.adaptiveHealthChecking = false;
+        if (this.healthChecker != null) {
+            this.healthChecker.stop();
+        }
+    }
+
+    private boolean isAdaptiveHealthCheck() {
+        return this.adaptiveHealthCheckMargin >= 0.0D;
+    }
+
+    @Override
+    public HealthCheckStats healthCheckStats() {
+        if (this.healthChecker == null) {
+            return new HealthCheckStats(0L, 0L, 0L);
         }
+        return this.healthChecker.stats();
     }
 
     @Override
@@ -115,6 +491,17 @@ final class AgonesImpl implements Agones {
         return this.sdk.health(response);
     }
 
+    private StreamObserver<Sdk.Empty> openHealthCheckStream(
+        final StreamObserver<Sdk.Empty> response
+    ) {
+        final Context previous = Context.ROOT.attach();
+        try {
+            return this.healthCheckStream(response);
+        } finally {
+            Context.ROOT.detach(previous);
+        }
+    }
+
     @Override
     public void allocate(final StreamObserver<Sdk.Empty> response) {
         this.sdk.allocate(Sdk.Empty.getDefaultInstance(), response);
@@ -122,7 +509,27 @@ final class AgonesImpl implements Agones {
 
     @Override
     public void getGameServer(final StreamObserver<Sdk.GameServer> response) {
-        this.sdk.getGameServer(Sdk.Empty.getDefaultInstance(), response);
+        if (this.gameServerCache == null) {
+            this.hedging(
+                    AgonesImpl.GET_GAME_SERVER,
+                    MethodGroup.METADATA,
+                    response,
+                    observer -> this.sdk.getGameServer(Sdk.Empty.getDefaultInstance(), observer)
+                );
+            return;
+        }
+        final Sdk.GameServer cached = this.gameServerCache.get();
+        if (cached != null) {
+            response.onNext(cached);
+            response.onCompleted();
+            return;
+        }
+        this.hedging(
+                AgonesImpl.GET_GAME_SERVER,
+                MethodGroup.METADATA,
+                Internal.observerMap(response, this.gameServerCache::update),
+                observer -> this.sdk.getGameServer(Sdk.Empty.getDefaultInstance(), observer)
+            );
     }
 
     @Override
@@ -149,9 +556,11 @@ final class AgonesImpl implements Agones {
         final String value,
         final StreamObserver<Sdk.Empty> observer
     ) {
-        this.sdk.setAnnotation(
-                Sdk.KeyValue.newBuilder().setKey(key).setValue(value).build(),
-                observer
+        final Sdk.KeyValue request = Sdk.KeyValue.newBuilder().setKey(key).setValue(value).build();
+        this.retrying(
+                MethodGroup.METADATA,
+                observer,
+                attempt -> this.sdk.setAnnotation(request, attempt)
             );
     }
 
@@ -161,14 +570,26 @@ final class AgonesImpl implements Agones {
         final String value,
         final StreamObserver<Sdk.Empty> response
     ) {
-        this.sdk.setLabel(Sdk.KeyValue.newBuilder().setKey(key).setValue(value).build(), response);
+        final Sdk.KeyValue request = Sdk.KeyValue.newBuilder().setKey(key).setValue(value).build();
+        this.retrying(
+                MethodGroup.METADATA,
+                response,
+                observer -> this.sdk.setLabel(request, observer)
+            );
     }
 
     @Override
     public void getConnectedPlayersFuture(final StreamObserver<List<String>> response) {
-        this.alpha.getConnectedPlayers(
-                Alpha.Empty.getDefaultInstance(),
-                Internal.observerMap(response, Alpha.PlayerIDList::getListList)
+        if (this.playerTracker != null && this.playerTracker.isSynced()) {
+            response.onNext(this.playerTracker.players());
+            response.onCompleted();
+            return;
+        }
+        this.retrying(
+                MethodGroup.PLAYER_TRACKING,
+                Internal.observerMap(response, Alpha.PlayerIDList::getListList),
+                observer ->
+                    this.alpha.getConnectedPlayers(Alpha.Empty.getDefaultInstance(), observer)
             );
     }
 
@@ -176,7 +597,12 @@ final class AgonesImpl implements Agones {
     public void playerConnect(final String playerId, final StreamObserver<Boolean> response) {
         this.alpha.playerConnect(
                 Alpha.PlayerID.newBuilder().setPlayerID(playerId).build(),
-                Internal.observerMap(response, Alpha.Bool::getBool)
+                Internal.observerMap(response, connected -> {
+                    if (this.playerTracker != null) {
+                        this.playerTracker.connected(playerId);
+                    }
+                    return connected.getBool();
+                })
             );
     }
 
@@ -184,43 +610,82 @@ final class AgonesImpl implements Agones {
     public void playerDisconnect(final String playerId, final StreamObserver<Boolean> response) {
         this.alpha.playerDisconnect(
                 Alpha.PlayerID.newBuilder().setPlayerID(playerId).build(),
-                Internal.observerMap(response, Alpha.Bool::getBool)
+                Internal.observerMap(response, disconnected -> {
+                    if (this.playerTracker != null) {
+                        this.playerTracker.disconnected(playerId);
+                    }
+                    return disconnected.getBool();
+                })
             );
     }
 
     @Override
     public void isPlayerConnected(final String playerId, final StreamObserver<Boolean> response) {
-        this.alpha.isPlayerConnected(
-                Alpha.PlayerID.newBuilder().setPlayerID(playerId).build(),
-                Internal.observerMap(response, Alpha.Bool::getBool)
+        if (this.playerTracker != null && this.playerTracker.isSynced()) {
+            response.onNext(this.playerTracker.isConnected(playerId));
+            response.onCompleted();
+            return;
+        }
+        final Alpha.PlayerID request = Alpha.PlayerID.newBuilder().setPlayerID(playerId).build();
+        this.retrying(
+                MethodGroup.PLAYER_TRACKING,
+                Internal.observerMap(response, Alpha.Bool::getBool),
+                observer -> this.alpha.isPlayerConnected(request, observer)
             );
     }
 
     @Override
     public void setPlayerCapacity(final long capacity, final StreamObserver<Alpha.Empty> response) {
-        this.alpha.setPlayerCapacity(Alpha.Count.newBuilder().setCount(capacity).build(), response);
+        final Alpha.Count request = Alpha.Count.newBuilder().setCount(capacity).build();
+        this.retrying(
+                MethodGroup.PLAYER_TRACKING,
+                response,
+                observer -> this.alpha.setPlayerCapacity(request, observer)
+            );
     }
 
     @Override
     public void getPlayerCapacity(final StreamObserver<Long> response) {
-        this.alpha.getPlayerCapacity(
-                Alpha.Empty.getDefaultInstance(),
-                Internal.observerMap(response, Alpha.Count::getCount)
+        this.retrying(
+                MethodGroup.PLAYER_TRACKING,
+                Internal.observerMap(response, Alpha.Count::getCount),
+                observer ->
+                    this.alpha.getPlayerCapacity(Alpha.Empty.getDefaultInstance(), observer)
             );
     }
 
     @Override
     public void getPlayerCount(final StreamObserver<Long> response) {
-        this.alpha.getPlayerCount(
-                Alpha.Empty.getDefaultInstance(),
-                Internal.observerMap(response, Alpha.Count::getCount)
+        if (this.playerTracker != null && this.playerTracker.isSynced()) {
+            response.onNext(this.playerTracker.count());
+            response.onCompleted();
+            return;
+        }
+        this.hedging(
+                AgonesImpl.GET_PLAYER_COUNT,
+                MethodGroup.PLAYER_TRACKING,
+                Internal.observerMap(response, Alpha.Count::getCount),
+                observer -> this.alpha.getPlayerCount(Alpha.Empty.getDefaultInstance(), observer)
             );
     }
 
     @Override
     public void getList(final String name, final StreamObserver<AgonesList> response) {
+        final AgonesList cached = this.countsAndListsCache == null
+            ? null
+            : this.countsAndListsCache.list(name);
+        if (cached != null) {
+            response.onNext(cached);
+            response.onCompleted();
+            return;
+        }
         final Beta.GetListRequest request = Beta.GetListRequest.newBuilder().setName(name).build();
-        this.beta.getList(request, Internal.observerMap(response, Internal::toList));
+        this.hedging(
+                AgonesImpl.GET_LIST,
+                MethodGroup.COUNTERS_AND_LISTS,
+                Internal.observerMap(response, this::toList),
+                observer -> this.beta.getList(request, observer)
+            );
     }
 
     @Override
@@ -233,7 +698,7 @@ final class AgonesImpl implements Agones {
             .setName(name)
             .setValue(value)
             .build();
-        this.beta.addListValue(request, Internal.observerMap(response, Internal::toList));
+        this.beta.addListValue(request, Internal.observerMap(response, this::toList));
     }
 
     @Override
@@ -246,7 +711,7 @@ final class AgonesImpl implements Agones {
             .setName(name)
             .setValue(value)
             .build();
-        this.beta.removeListValue(request, Internal.observerMap(response, Internal::toList));
+        this.beta.removeListValue(request, Internal.observerMap(response, this::toList));
     }
 
     @Override
@@ -260,15 +725,84 @@ final class AgonesImpl implements Agones {
             .setList(Internal.toAgonesList(list))
             .setUpdateMask(mask)
             .build();
-        this.beta.updateList(request, Internal.observerMap(response, Internal::toList));
+        this.retrying(
+                MethodGroup.COUNTERS_AND_LISTS,
+                Internal.observerMap(response, this::toList),
+                observer -> this.beta.updateList(request, observer)
+            );
+    }
+
+    @Override
+    public void addListValues(
+        final String name,
+        final Collection<String> values,
+        final StreamObserver<AgonesList> response
+    ) {
+        this.modifyList(
+                name,
+                current -> {
+                    final Set<String> target = new LinkedHashSet<>(current.getValues());
+                    target.addAll(values);
+                    return target;
+                },
+                response
+            );
+    }
+
+    @Override
+    public void removeListValues(
+        final String name,
+        final Collection<String> values,
+        final StreamObserver<AgonesList> response
+    ) {
+        this.modifyList(
+                name,
+                current -> {
+                    final Set<String> target = new LinkedHashSet<>(current.getValues());
+                    target.removeAll(values);
+                    return target;
+                },
+                response
+            );
+    }
+
+    @Override
+    public void syncList(
+        final String name,
+        final Set<String> desired,
+        final StreamObserver<AgonesList> response
+    ) {
+        this.modifyList(
+                name,
+                current -> {
+                    final Set<String> target = new LinkedHashSet<>(current.getValues());
+                    target.retainAll(desired);
+                    target.addAll(desired);
+                    return target;
+                },
+                response
+            );
     }
 
     @Override
     public void getCounter(final String name, final StreamObserver<AgonesCounter> response) {
+        final AgonesCounter cached = this.countsAndListsCache == null
+            ? null
+            : this.countsAndListsCache.counter(name);
+        if (cached != null) {
+            response.onNext(cached);
+            response.onCompleted();
+            return;
+        }
         final Beta.GetCounterRequest request = Beta.GetCounterRequest.newBuilder()
             .setName(name)
             .build();
-        this.beta.getCounter(request, Internal.observerMap(response, Internal::toCounter));
+        this.hedging(
+                AgonesImpl.GET_COUNTER,
+                MethodGroup.COUNTERS_AND_LISTS,
+                Internal.observerMap(response, this::toCounter),
+                observer -> this.beta.getCounter(request, observer)
+            );
     }
 
     @Override
@@ -277,14 +811,12 @@ final class AgonesImpl implements Agones {
         final long amount,
         final StreamObserver<AgonesCounter> response
     ) {
-        final Beta.CounterUpdateRequest update = Beta.CounterUpdateRequest.newBuilder()
-            .setName(name)
-            .setCountDiff(amount >= 0 ? amount : Math.abs(amount))
-            .build();
-        final Beta.UpdateCounterRequest request = Beta.UpdateCounterRequest.newBuilder()
-            .setCounterUpdateRequest(update)
-            .build();
-        this.beta.updateCounter(request, Internal.observerMap(response, Internal::toCounter));
+        final long diff = amount >= 0 ? amount : Math.abs(amount);
+        if (this.counterBatcher != null) {
+            this.counterBatcher.add(name, diff, response);
+        } else {
+            this.updateCounterDiff(name, diff, response);
+        }
     }
 
     @Override
@@ -293,14 +825,12 @@ final class AgonesImpl implements Agones {
         final long amount,
         final StreamObserver<AgonesCounter> response
     ) {
-        final Beta.CounterUpdateRequest update = Beta.CounterUpdateRequest.newBuilder()
-            .setName(name)
-            .setCountDiff(amount >= 0 ? -amount : amount)
-            .build();
-        final Beta.UpdateCounterRequest request = Beta.UpdateCounterRequest.newBuilder()
-            .setCounterUpdateRequest(update)
-            .build();
-        this.beta.updateCounter(request, Internal.observerMap(response, Internal::toCounter));
+        final long diff = amount >= 0 ? -amount : amount;
+        if (this.counterBatcher != null) {
+            this.counterBatcher.add(name, diff, response);
+        } else {
+            this.updateCounterDiff(name, diff, response);
+        }
     }
 
     @Override
@@ -316,7 +846,11 @@ final class AgonesImpl implements Agones {
         final Beta.UpdateCounterRequest request = Beta.UpdateCounterRequest.newBuilder()
             .setCounterUpdateRequest(update)
             .build();
-        this.beta.updateCounter(request, Internal.observerMap(response, Internal::toCounter));
+        this.retrying(
+                MethodGroup.COUNTERS_AND_LISTS,
+                Internal.observerMap(response, this::toCounter),
+                observer -> this.beta.updateCounter(request, observer)
+            );
     }
 
     @Override
@@ -332,39 +866,560 @@ final class AgonesImpl implements Agones {
         final Beta.UpdateCounterRequest request = Beta.UpdateCounterRequest.newBuilder()
             .setCounterUpdateRequest(update)
             .build();
-        this.beta.updateCounter(request, Internal.observerMap(response, Internal::toCounter));
+        this.retrying(
+                MethodGroup.COUNTERS_AND_LISTS,
+                Internal.observerMap(response, this::toCounter),
+                observer -> this.beta.updateCounter(request, observer)
+            );
     }
 
     @Override
     public void close() throws Exception {
+        this.gameServerWatch.close();
+        synchronized (this) {
+            if (this.ownsScheduler) {
+                this.scheduler.shutdown();
+            }
+        }
+        if (this.counterBatcher != null) {
+            this.counterBatcher.close();
+        }
         this.channel.shutdown().awaitTermination(5L, TimeUnit.SECONDS);
+        if (this.ownsGameServerWatcherExecutor) {
+            this.gameServerWatcherExecutor.shutdown();
+        }
+        if (
+            this.virtualThreadExecutor != null &&
+            this.virtualThreadExecutor != this.gameServerWatcherExecutor
+        ) {
+            this.virtualThreadExecutor.shutdown();
+        }
     }
 
-    static final class Builder implements Agones.Builder {
+    private void updateCounterDiff(
+        final String name,
+        final long diff,
+        final StreamObserver<AgonesCounter> response
+    ) {
+        if (diff == 0L) {
+            this.getCounter(name, response);
+            return;
+        }
+        final Beta.CounterUpdateRequest update = Beta.CounterUpdateRequest.newBuilder()
+            .setName(name)
+            .setCountDiff(diff)
+            .build();
+        final Beta.UpdateCounterRequest request = Beta.UpdateCounterRequest.newBuilder()
+            .setCounterUpdateRequest(update)
+            .build();
+        this.beta.updateCounter(request, Internal.observerMap(response, this::toCounter));
+    }
+
+    private void modifyList(
+        final String name,
+        final Function<AgonesList, Set<String>> target,
+        final StreamObserver<AgonesList> response
+    ) {
+        final Beta.GetListRequest request = Beta.GetListRequest.newBuilder().setName(name).build();
+        Internal.<AgonesList>observerToFuture(current ->
+            this.retrying(
+                    MethodGroup.COUNTERS_AND_LISTS,
+                    Internal.observerMap(current, this::toList),
+                    observer -> this.beta.getList(request, observer)
+                )
+        ).whenComplete(
+            (current, error) -> {
+                if (error != null) {
+                    response.onError(error);
+                    return;
+                }
+                final Set<String> values = target.apply(current);
+                final Set<String> currentValues = new HashSet<>(current.getValues());
+                final List<String> added = new ArrayList<>();
+                for (final String value : values) {
+                    if (!currentValues.contains(value)) {
+                        added.add(value);
+                    }
+                }
+                final List<String> removed = new ArrayList<>();
+                for (final String value : current.getValues()) {
+                    if (!values.contains(value)) {
+                        removed.add(value);
+                    }
+                }
+                if (added.isEmpty() && removed.isEmpty()) {
+                    response.onNext(current);
+                    response.onCompleted();
+                } else if (added.size() == 1 && removed.isEmpty()) {
+                    this.addList(name, added.get(0), response);
+                } else if (removed.size() == 1 && added.isEmpty()) {
+                    this.removeList(name, removed.get(0), response);
+                } else if (values.size() > current.getCapacity()) {
+                    response.onError(
+                        Status.OUT_OF_RANGE.withDescription(
+                            "List '" + name + "' would exceed its capacity " + current.getCapacity()
+                        ).asRuntimeException()
+                    );
+                } else {
+                    final AgonesList list = new AgonesList(
+                        name,
+                        current.getCapacity(),
+                        new ArrayList<>(values)
+                    );
+                    this.updateList(list, Collections.singletonList("values"), response);
+                }
+            }
+        );
+    }
+
+    private AgonesCounter toCounter(final Beta.Counter counter) {
+        final AgonesCounter converted = Internal.toCounter(counter);
+        if (this.countsAndListsCache != null) {
+            this.countsAndListsCache.putCounter(converted);
+        }
+        return converted;
+    }
+
+    private AgonesList toList(final Beta.List list) {
+        final AgonesList converted = Internal.toList(list);
+        if (this.countsAndListsCache != null) {
+            this.countsAndListsCache.putList(converted);
+        }
+        return converted;
+    }
+
+    private final class HealthFetch implements StreamObserver<Sdk.GameServer> {
+
+        private final int attempts;
+
+        private HealthFetch(final int attempts) {
+            this.attempts = attempts;
+        }
+
+        @Override
+        public void onNext(final Sdk.GameServer value) {
+            if (AgonesImpl.this.adaptiveHealthChecking) {
+                AgonesImpl.this.healthChecker.tune(
+                        value.getSpec().getHealth(),
+                        AgonesImpl.this.adaptiveHealthCheckMargin
+                    );
+            }
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            if (!AgonesImpl.this.adaptiveHealthChecking) {
+                return;
+            }
+            try {
+                AgonesImpl.this.healthCheckExecutor.schedule(
+                        () -> AgonesImpl.this.getGameServer(new HealthFetch(this.attempts + 1)),
+                        AgonesImpl.this.healthChecker.backoffNanos(this.attempts),
+                        TimeUnit.NANOSECONDS
+                    );
+            } catch (final RejectedExecutionException ignored) {}
+        }
+
+        @Override
+        public void onCompleted() {}
+    }
+
+    private final class Blocking implements AgonesBlocking {
+
+        private final agones.dev.sdk.SDKGrpc.SDKBlockingStub sdk;
+        private final agones.dev.sdk.beta.SDKGrpc.SDKBlockingStub beta;
+        private final agones.dev.sdk.alpha.SDKGrpc.SDKBlockingStub alpha;
+        private final long deadlineNanos;
+
+        private Blocking(
+            final agones.dev.sdk.SDKGrpc.SDKBlockingStub sdk,
+            final agones.dev.sdk.beta.SDKGrpc.SDKBlockingStub beta,
+            final agones.dev.sdk.alpha.SDKGrpc.SDKBlockingStub alpha,
+            final long deadlineNanos
+        ) {
+            this.sdk = sdk;
+            this.beta = beta;
+            this.alpha = alpha;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public AgonesBlocking withDeadline(final Duration deadline) {
+            Objects.requireNonNull(deadline, "deadline");
+            if (deadline.isNegative() || deadline.isZero()) {
+                throw new IllegalArgumentException("Deadline must be positive!");
+            }
+            return new Blocking(this.sdk, this.beta, this.alpha, deadline.toNanos());
+        }
+
+        @Override
+        public void ready() {
+            this.sdk().ready(Sdk.Empty.getDefaultInstance());
+        }
+
+        @Override
+        public void allocate() {
+            this.sdk().allocate(Sdk.Empty.getDefaultInstance());
+        }
+
+        @Override
+        public void reserve(final Duration duration) {
+            this.sdk()
+                .reserve(Sdk.Duration.newBuilder().setSeconds(duration.getSeconds()).build());
+        }
+
+        @Override
+        public void shutdown() {
+            this.sdk().shutdown(Sdk.Empty.getDefaultInstance());
+        }
+
+        @Override
+        public Sdk.GameServer getGameServer() {
+            final GameServerCache cache = AgonesImpl.this.gameServerCache;
+            final Sdk.GameServer cached = cache == null ? null : cache.get();
+            if (cached != null) {
+                return cached;
+            }
+            final Sdk.GameServer gameServer = AgonesImpl.this.retryingBlocking(
+                    this.sdk(),
+                    MethodGroup.METADATA,
+                    sdk -> sdk.getGameServer(Sdk.Empty.getDefaultInstance())
+                );
+            if (cache != null) {
+                cache.update(gameServer);
+            }
+            return gameServer;
+        }
+
+        @Override
+        public void setAnnotation(final String key, final String value) {
+            final Sdk.KeyValue request = Sdk.KeyValue.newBuilder()
+                .setKey(key)
+                .setValue(value)
+                .build();
+            AgonesImpl.this.retryingBlocking(
+                this.sdk(),
+                MethodGroup.METADATA,
+                sdk -> sdk.setAnnotation(request)
+            );
+        }
+
+        @Override
+        public void setLabel(final String key, final String value) {
+            final Sdk.KeyValue request = Sdk.KeyValue.newBuilder()
+                .setKey(key)
+                .setValue(value)
+                .build();
+            AgonesImpl.this.retryingBlocking(
+                this.sdk(),
+                MethodGroup.METADATA,
+                sdk -> sdk.setLabel(request)
+            );
+        }
+
+        @Override
+        public List<String> getConnectedPlayers() {
+            final PlayerTracker tracker = AgonesImpl.this.playerTracker;
+            if (tracker != null && tracker.isSynced()) {
+                return tracker.players();
+            }
+            return AgonesImpl.this.retryingBlocking(
+                    this.alpha(),
+                    MethodGroup.PLAYER_TRACKING,
+                    alpha -> alpha.getConnectedPlayers(Alpha.Empty.getDefaultInstance())
+                ).getListList();
+        }
+
+        @Override
+        public boolean playerConnect(final String playerId) {
+            final boolean connected = this.alpha()
+                .playerConnect(Alpha.PlayerID.newBuilder().setPlayerID(playerId).build())
+                .getBool();
+            if (AgonesImpl.this.playerTracker != null) {
+                AgonesImpl.this.playerTracker.connected(playerId);
+            }
+            return connected;
+        }
+
+        @Override
+        public boolean playerDisconnect(final String playerId) {
+            final boolean disconnected = this.alpha()
+                .playerDisconnect(Alpha.PlayerID.newBuilder().setPlayerID(playerId).build())
+                .getBool();
+            if (AgonesImpl.this.playerTracker != null) {
+                AgonesImpl.this.playerTracker.disconnected(playerId);
+            }
+            return disconnected;
+        }
+
+        @Override
+        public boolean isPlayerConnected(final String playerId) {
+            final PlayerTracker tracker = AgonesImpl.this.playerTracker;
+            if (tracker != null && tracker.isSynced()) {
+                return tracker.isConnected(playerId);
+            }
+            final Alpha.PlayerID request = Alpha.PlayerID.newBuilder()
+                .setPlayerID(playerId)
+                .build();
+            return AgonesImpl.this.retryingBlocking(
+                    this.alpha(),
+                    MethodGroup.PLAYER_TRACKING,
+                    alpha -> alpha.isPlayerConnected(request)
+                ).getBool();
+        }
+
+        @Override
+        public void setPlayerCapacity(final long capacity) {
+            final Alpha.Count request = Alpha.Count.newBuilder().setCount(capacity).build();
+            AgonesImpl.this.retryingBlocking(
+                this.alpha(),
+                MethodGroup.PLAYER_TRACKING,
+                alpha -> alpha.setPlayerCapacity(request)
+            );
+        }
+
+        @Override
+        public long getPlayerCapacity() {
+            return AgonesImpl.this.retryingBlocking(
+                    this.alpha(),
+                    MethodGroup.PLAYER_TRACKING,
+                    alpha -> alpha.getPlayerCapacity(Alpha.Empty.getDefaultInstance())
+                ).getCount();
+        }
+
+        @Override
+        public long getPlayerCount() {
+            final PlayerTracker tracker = AgonesImpl.this.playerTracker;
+            if (tracker != null && tracker.isSynced()) {
+                return tracker.count();
+            }
+            return AgonesImpl.this.retryingBlocking(
+                    this.alpha(),
+                    MethodGroup.PLAYER_TRACKING,
+                    alpha -> alpha.getPlayerCount(Alpha.Empty.getDefaultInstance())
+                ).getCount();
+        }
+
+        @Override
+        public AgonesList getList(final String name) {
+            final CountsAndListsCache cache = AgonesImpl.this.countsAndListsCache;
+            final AgonesList cached = cache == null ? null : cache.list(name);
+            if (cached != null) {
+                return cached;
+            }
+            final Beta.GetListRequest request = Beta.GetListRequest.newBuilder()
+                .setName(name)
+                .build();
+            return AgonesImpl.this.toList(
+                    AgonesImpl.this.retryingBlocking(
+                        this.beta(),
+                        MethodGroup.COUNTERS_AND_LISTS,
+                        beta -> beta.getList(request)
+                    )
+                );
+        }
+
+        @Override
+        public AgonesList addList(final String name, final String value) {
+            final Beta.AddListValueRequest request = Beta.AddListValueRequest.newBuilder()
+                .setName(name)
+                .setValue(value)
+                .build();
+            return AgonesImpl.this.toList(this.beta().addListValue(request));
+        }
+
+        @Override
+        public AgonesList removeList(final String name, final String value) {
+            final Beta.RemoveListValueRequest request = Beta.RemoveListValueRequest.newBuilder()
+                .setName(name)
+                .setValue(value)
+                .build();
+            return AgonesImpl.this.toList(this.beta().removeListValue(request));
+        }
+
+        @Override
+        public AgonesList updateList(final AgonesList list, final List<String> updateMask) {
+            final FieldMask mask = FieldMask.newBuilder().addAllPaths(updateMask).build();
+            final Beta.UpdateListRequest request = Beta.UpdateListRequest.newBuilder()
+                .setList(Internal.toAgonesList(list))
+                .setUpdateMask(mask)
+                .build();
+            return AgonesImpl.this.toList(
+                    AgonesImpl.this.retryingBlocking(
+                        this.beta(),
+                        MethodGroup.COUNTERS_AND_LISTS,
+                        beta -> beta.updateList(request)
+                    )
+                );
+        }
+
+        @Override
+        public AgonesCounter getCounter(final String name) {
+            final CountsAndListsCache cache = AgonesImpl.this.countsAndListsCache;
+            final AgonesCounter cached = cache == null ? null : cache.counter(name);
+            if (cached != null) {
+                return cached;
+            }
+            final Beta.GetCounterRequest request = Beta.GetCounterRequest.newBuilder()
+                .setName(name)
+                .build();
+            return AgonesImpl.this.toCounter(
+                    AgonesImpl.this.retryingBlocking(
+                        this.beta(),
+                        MethodGroup.COUNTERS_AND_LISTS,
+                        beta -> beta.getCounter(request)
+                    )
+                );
+        }
+
+        @Override
+        public AgonesCounter increaseCounter(final String name, final long amount) {
+            return this.updateCounterDiff(name, amount >= 0 ? amount : Math.abs(amount));
+        }
+
+        @Override
+        public AgonesCounter decreaseCounter(final String name, final long amount) {
+            return this.updateCounterDiff(name, amount >= 0 ? -amount : amount);
+        }
+
+        @Override
+        public AgonesCounter setCounterCount(final String name, final long amount) {
+            return this.updateCounter(
+                    Beta.CounterUpdateRequest.newBuilder()
+                        .setName(name)
+                        .setCount(Int64Value.newBuilder().setValue(amount).build())
+                        .build(),
+                    true
+                );
+        }
+
+        @Override
+        public AgonesCounter setCounterCapacity(final String name, final long amount) {
+            return this.updateCounter(
+                    Beta.CounterUpdateRequest.newBuilder()
+                        .setName(name)
+                        .setCapacity(Int64Value.newBuilder().setValue(amount).build())
+                        .build(),
+                    true
+                );
+        }
 
-        private final ManagedChannel channel;
-        private final ExecutorService gameServerWatcherExecutor;
-        private final ScheduledExecutorService healthCheckExecutor;
-        private final Duration healthCheckDelay;
-        private final Duration healthCheckPeriod;
-
-        private Builder(
-            final ManagedChannel channel,
-            final ExecutorService gameServerWatcherExecutor,
-            final ScheduledExecutorService healthCheckExecutor,
-            final Duration healthCheckDelay,
-            final Duration healthCheckPeriod
+        private AgonesCounter updateCounterDiff(final String name, final long diff) {
+            if (AgonesImpl.this.counterBatcher != null) {
+                return this.join(
+                    Internal.observerToFuture(response ->
+                        AgonesImpl.this.counterBatcher.add(name, diff, response)
+                    )
+                );
+            }
+            if (diff == 0L) {
+                return this.getCounter(name);
+            }
+            return this.updateCounter(
+                    Beta.CounterUpdateRequest.newBuilder().setName(name).setCountDiff(diff).build(),
+                    false
+                );
+        }
+
+        private AgonesCounter updateCounter(
+            final Beta.CounterUpdateRequest update,
+            final boolean idempotent
         ) {
-            this.channel = channel;
-            this.gameServerWatcherExecutor = gameServerWatcherExecutor;
-            this.healthCheckExecutor = healthCheckExecutor;
-            this.healthCheckDelay = healthCheckDelay;
-            this.healthCheckPeriod = healthCheckPeriod;
+            final Beta.UpdateCounterRequest request = Beta.UpdateCounterRequest.newBuilder()
+                .setCounterUpdateRequest(update)
+                .build();
+            if (!idempotent) {
+                return AgonesImpl.this.toCounter(this.beta().updateCounter(request));
+            }
+            return AgonesImpl.this.toCounter(
+                    AgonesImpl.this.retryingBlocking(
+                        this.beta(),
+                        MethodGroup.COUNTERS_AND_LISTS,
+                        beta -> beta.updateCounter(request)
+                    )
+                );
+        }
+
+        private agones.dev.sdk.SDKGrpc.SDKBlockingStub sdk() {
+            if (this.deadlineNanos == 0L) {
+                return this.sdk;
+            }
+            return this.sdk.withDeadlineAfter(this.deadlineNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private agones.dev.sdk.beta.SDKGrpc.SDKBlockingStub beta() {
+            if (this.deadlineNanos == 0L) {
+                return this.beta;
+            }
+            return this.beta.withDeadlineAfter(this.deadlineNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private agones.dev.sdk.alpha.SDKGrpc.SDKBlockingStub alpha() {
+            if (this.deadlineNanos == 0L) {
+                return this.alpha;
+            }
+            return this.alpha.withDeadlineAfter(this.deadlineNanos, TimeUnit.NANOSECONDS);
         }
 
-        Builder() {
-            this(null, null, null, null, null);
+        private <T> T join(final CompletableFuture<T> future) {
+            if (this.deadlineNanos == 0L) {
+                try {
+                    return future.join();
+                } catch (final CompletionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw e;
+                }
+            }
+            try {
+                return future.get(this.deadlineNanos, TimeUnit.NANOSECONDS);
+            } catch (final ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new CompletionException(e.getCause());
+            } catch (final TimeoutException e) {
+                future.cancel(true);
+                throw Status.DEADLINE_EXCEEDED.withDescription(
+                    "Deadline of " + Duration.ofNanos(this.deadlineNanos) + " is exceeded"
+                ).asRuntimeException();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                throw Status.CANCELLED.withDescription("Interrupted")
+                    .withCause(e)
+                    .asRuntimeException();
+            }
         }
+    }
+
+    static final class Builder implements Agones.Builder {
+
+        private ManagedChannel channel;
+        private ExecutorService gameServerWatcherExecutor;
+        private ScheduledExecutorService healthCheckExecutor;
+        private Duration healthCheckDelay;
+        private Duration healthCheckPeriod;
+        private Duration healthCheckInitialBackoff = Duration.ofMillis(250L);
+        private Duration healthCheckMaxBackoff = Duration.ofSeconds(5L);
+        private Duration gameServerWatchInitialBackoff = Duration.ofMillis(250L);
+        private Duration gameServerWatchMaxBackoff = Duration.ofSeconds(5L);
+        private double adaptiveHealthCheckMargin = -1.0D;
+        private Duration counterBatchingInterval;
+        private int counterBatchingMaxPending;
+        private ScheduledExecutorService counterBatchingExecutor;
+        private Duration gameServerCacheStaleness;
+        private Duration countsAndListsCacheStaleness;
+        private Duration playerTrackingReconcileGrace;
+        private AgonesMetrics metrics = AgonesMetrics.noop();
+        private boolean virtualThreads;
+        private DeadlinePolicy deadlinePolicy = DeadlinePolicy.none();
+        private RetryPolicy retryPolicy = RetryPolicy.none();
+        private HedgePolicy hedgePolicy = HedgePolicy.none();
+        private ConcurrencyLimitPolicy concurrencyLimitPolicy = ConcurrencyLimitPolicy.none();
+
+        Builder() {}
 
         @Override
         public Agones build() {
@@ -376,56 +1431,282 @@ final class AgonesImpl implements Agones {
 
         @Override
         public Agones.Builder withChannel(final ManagedChannel channel) {
-            return new Builder(
-                channel,
-                this.gameServerWatcherExecutor,
-                this.healthCheckExecutor,
-                this.healthCheckDelay,
-                this.healthCheckPeriod
-            );
+            final Builder builder = this.copy();
+            builder.channel = channel;
+            return builder;
+        }
+
+        @Override
+        public Agones.Builder withMetrics(final AgonesMetrics metrics) {
+            Objects.requireNonNull(metrics, "metrics");
+            final Builder builder = this.copy();
+            builder.metrics = metrics;
+            return builder;
         }
 
         @Override
         public Agones.Builder withGameServerWatcherExecutor(final ExecutorService executor) {
-            return new Builder(
-                this.channel,
-                executor,
-                this.healthCheckExecutor,
-                this.healthCheckDelay,
-                this.healthCheckPeriod
-            );
+            final Builder builder = this.copy();
+            builder.gameServerWatcherExecutor = executor;
+            return builder;
+        }
+
+        @Override
+        public Agones.Builder withDeadlinePolicy(final DeadlinePolicy policy) {
+            Objects.requireNonNull(policy, "policy");
+            final Builder builder = this.copy();
+            builder.deadlinePolicy = policy;
+            return builder;
+        }
+
+        @Override
+        public Agones.Builder withRetryPolicy(final RetryPolicy policy) {
+            Objects.requireNonNull(policy, "policy");
+            final Builder builder = this.copy();
+            builder.retryPolicy = policy;
+            return builder;
+        }
+
+        @Override
+        public Agones.Builder withHedgePolicy(final HedgePolicy policy) {
+            Objects.requireNonNull(policy, "policy");
+            final Builder builder = this.copy();
+            builder.hedgePolicy = policy;
+            return builder;
+        }
+
+        @Override
+        public Agones.Builder withConcurrencyLimitPolicy(final ConcurrencyLimitPolicy policy) {
+            Objects.requireNonNull(policy, "policy");
+            final Builder builder = this.copy();
+            builder.concurrencyLimitPolicy = policy;
+            return builder;
+        }
+
+        @Override
+        public Agones.Builder withVirtualThreads(final boolean enabled) {
+            final Builder builder = this.copy();
+            builder.virtualThreads = enabled;
+            return builder;
         }
 
         @Override
         public Agones.Builder withHealthCheck(final Duration delay, final Duration period) {
-            return new Builder(
-                this.channel,
-                this.gameServerWatcherExecutor,
-                this.healthCheckExecutor,
-                delay,
-                period
-            );
+            final Builder builder = this.copy();
+            builder.healthCheckDelay = delay;
+            builder.healthCheckPeriod = period;
+            return builder;
         }
 
         @Override
         public Agones.Builder withHealthCheckExecutor(final ScheduledExecutorService executor) {
-            return new Builder(
-                this.channel,
-                this.gameServerWatcherExecutor,
-                executor,
-                this.healthCheckDelay,
-                this.healthCheckPeriod
-            );
+            final Builder builder = this.copy();
+            builder.healthCheckExecutor = executor;
+            return builder;
+        }
+
+        @Override
+        public Agones.Builder withHealthCheckBackoff(
+            final Duration initialBackoff,
+            final Duration maxBackoff
+        ) {
+            Objects.requireNonNull(initialBackoff, "initialBackoff");
+            Objects.requireNonNull(maxBackoff, "maxBackoff");
+            final Builder builder = this.copy();
+            builder.healthCheckInitialBackoff = initialBackoff;
+            builder.healthCheckMaxBackoff = maxBackoff;
+            return builder;
+        }
+
+        @Override
+        public Agones.Builder withGameServerWatchBackoff(
+            final Duration initialBackoff,
+            final Duration maxBackoff
+        ) {
+            Objects.requireNonNull(initialBackoff, "initialBackoff");
+            Objects.requireNonNull(maxBackoff, "maxBackoff");
+            final Builder builder = this.copy();
+            builder.gameServerWatchInitialBackoff = initialBackoff;
+            builder.gameServerWatchMaxBackoff = maxBackoff;
+            return builder;
+        }
+
+        @Override
+        public Agones.Builder withAdaptiveHealthCheck(final double margin) {
+            if (margin >= 1.0D) {
+                throw new IllegalArgumentException("Margin must be less than 1!");
+            }
+            final Builder builder = this.copy();
+            builder.adaptiveHealthCheckMargin = margin;
+            return builder;
+        }
+
+        @Override
+        public Agones.Builder withCounterBatching(
+            final Duration flushInterval,
+            final int maxPending
+        ) {
+            if (
+                flushInterval != null &&
+                (flushInterval.isNegative() || flushInterval.toMillis() < 1L)
+            ) {
+                throw new IllegalArgumentException(
+                    "Flush interval must be at least 1 millisecond!"
+                );
+            }
+            if (maxPending < 1) {
+                throw new IllegalArgumentException("Max pending must be at least 1!");
+            }
+            final Builder builder = this.copy();
+            builder.counterBatchingInterval = flushInterval;
+            builder.counterBatchingMaxPending = maxPending;
+            return builder;
+        }
+
+        @Override
+        public Agones.Builder withCounterBatchingExecutor(final ScheduledExecutorService executor) {
+            final Builder builder = this.copy();
+            builder.counterBatchingExecutor = executor;
+            return builder;
+        }
+
+        @Override
+        public Agones.Builder withGameServerCache(final Duration maxStaleness) {
+            final Builder builder = this.copy();
+            builder.gameServerCacheStaleness = maxStaleness;
+            return builder;
+        }
+
+        @Override
+        public Agones.Builder withCountsAndListsCache(final Duration maxStaleness) {
+            final Builder builder = this.copy();
+            builder.countsAndListsCacheStaleness = maxStaleness;
+            return builder;
+        }
+
+        @Override
+        public Agones.Builder withPlayerTrackingCache(final Duration reconcileGrace) {
+            final Builder builder = this.copy();
+            builder.playerTrackingReconcileGrace = reconcileGrace;
+            return builder;
+        }
+
+        private Builder copy() {
+            final Builder builder = new Builder();
+            builder.channel = this.channel;
+            builder.metrics = this.metrics;
+            builder.gameServerWatcherExecutor = this.gameServerWatcherExecutor;
+            builder.healthCheckExecutor = this.healthCheckExecutor;
+            builder.healthCheckDelay = this.healthCheckDelay;
+            builder.healthCheckPeriod = this.healthCheckPeriod;
+            builder.healthCheckInitialBackoff = this.healthCheckInitialBackoff;
+            builder.healthCheckMaxBackoff = this.healthCheckMaxBackoff;
+            builder.gameServerWatchInitialBackoff = this.gameServerWatchInitialBackoff;
+            builder.gameServerWatchMaxBackoff = this.gameServerWatchMaxBackoff;
+            builder.adaptiveHealthCheckMargin = this.adaptiveHealthCheckMargin;
+            builder.counterBatchingInterval = this.counterBatchingInterval;
+            builder.counterBatchingMaxPending = this.counterBatchingMaxPending;
+            builder.counterBatchingExecutor = this.counterBatchingExecutor;
+            builder.gameServerCacheStaleness = this.gameServerCacheStaleness;
+            builder.countsAndListsCacheStaleness = this.countsAndListsCacheStaleness;
+            builder.playerTrackingReconcileGrace = this.playerTrackingReconcileGrace;
+            builder.virtualThreads = this.virtualThreads;
+            builder.deadlinePolicy = this.deadlinePolicy;
+            builder.retryPolicy = this.retryPolicy;
+            builder.hedgePolicy = this.hedgePolicy;
+            builder.concurrencyLimitPolicy = this.concurrencyLimitPolicy;
+            return builder;
+        }
+
+        private DeadlineInterceptor deadlineInterceptor() {
+            if (this.deadlinePolicy.isEmpty()) {
+                return null;
+            }
+            return new DeadlineInterceptor(this.deadlinePolicy);
+        }
+
+        private ConcurrencyLimiter concurrencyLimiter(
+            final Supplier<ScheduledExecutorService> scheduler
+        ) {
+            if (this.concurrencyLimitPolicy.isEmpty()) {
+                return null;
+            }
+            return new ConcurrencyLimiter(this.concurrencyLimitPolicy, scheduler);
+        }
+
+        private Channel interceptedChannel(
+            final DeadlineInterceptor deadlineInterceptor,
+            final ConcurrencyLimiter concurrencyLimiter
+        ) {
+            Channel channel = this.channel;
+            if (this.metrics != AgonesMetrics.noop()) {
+                channel = ClientInterceptors.intercept(
+                    channel,
+                    new MetricsInterceptor(this.metrics)
+                );
+            }
+            if (concurrencyLimiter != null) {
+                channel = ClientInterceptors.intercept(channel, concurrencyLimiter);
+            }
+            if (deadlineInterceptor != null) {
+                channel = ClientInterceptors.intercept(channel, deadlineInterceptor);
+            }
+            return channel;
+        }
+
+        private ExecutorService gameServerWatcherExecutor(final ExecutorService virtualThreads) {
+            if (this.gameServerWatcherExecutor != null || !this.virtualThreads) {
+                return this.gameServerWatcherExecutor;
+            }
+            if (virtualThreads != null) {
+                return virtualThreads;
+            }
+            return Executors.newSingleThreadExecutor();
         }
 
         private ScheduledExecutorService healthCheckExecutor() {
             if (this.healthCheckExecutor != null) {
                 return this.healthCheckExecutor;
             }
-            if (this.healthCheckDelay != null) {
+            if (this.healthCheckDelay != null || this.adaptiveHealthCheckMargin >= 0.0D) {
                 return Executors.newSingleThreadScheduledExecutor();
             }
             return null;
         }
+
+        private GameServerCache gameServerCache() {
+            if (this.gameServerCacheStaleness == null) {
+                return null;
+            }
+            return new GameServerCache(this.gameServerCacheStaleness.toNanos());
+        }
+
+        private CountsAndListsCache countsAndListsCache() {
+            if (this.countsAndListsCacheStaleness == null) {
+                return null;
+            }
+            return new CountsAndListsCache(this.countsAndListsCacheStaleness.toNanos());
+        }
+
+        private PlayerTracker playerTracker() {
+            if (this.playerTrackingReconcileGrace == null) {
+                return null;
+            }
+            return new PlayerTracker(this.playerTrackingReconcileGrace.toNanos());
+        }
+
+        private CounterBatcher counterBatcher(final CounterBatcher.Sender sender) {
+            if (this.counterBatchingInterval == null) {
+                return null;
+            }
+            final boolean owned = this.counterBatchingExecutor == null;
+            return new CounterBatcher(
+                sender,
+                owned ? Executors.newSingleThreadScheduledExecutor() : this.counterBatchingExecutor,
+                owned,
+                this.counterBatchingInterval.toMillis(),
+                this.counterBatchingMaxPending
+            );
+        }
     }
 }
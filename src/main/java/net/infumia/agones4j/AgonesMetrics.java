@@ -0,0 +1,48 @@
+package net.infumia.agones4j;
+
+import io.grpc.Status;
+
+/**
+ * The interface receives the metrics of the calls made to the Agones SDK server.
+ * <p>
+ * Methods are identified by their full gRPC name, e.g. {@code agones.dev.sdk.SDK/Ready} or
+ * {@code agones.dev.sdk.beta.SDK/GetCounter}, and are called on the gRPC threads, so implementations must be
+ * thread-safe and cheap.
+ */
+public interface AgonesMetrics {
+    /**
+     * Retrieves the metrics that ignore every call.
+     *
+     * @return The no-op metrics.
+     */
+    static AgonesMetrics noop() {
+        return NoopMetrics.INSTANCE;
+    }
+
+    /**
+     * Creates new metrics that keep per-method counters and latency histograms in memory.
+     *
+     * @return A new in-memory metrics instance.
+     */
+    static InMemoryAgonesMetrics inMemory() {
+        return new InMemoryAgonesMetrics();
+    }
+
+    /**
+     * Called when a call is started.
+     *
+     * @param method the full method name.
+     */
+    void callStarted(String method);
+
+    /**
+     * Called when a call is closed.
+     * <p>
+     * For streams, the latency is the lifetime of the stream.
+     *
+     * @param method the full method name.
+     * @param code the status code the call is closed with.
+     * @param latencyNanos the time between starting and closing the call.
+     */
+    void callCompleted(String method, Status.Code code, long latencyNanos);
+}
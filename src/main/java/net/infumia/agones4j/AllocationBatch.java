@@ -0,0 +1,69 @@
+package net.infumia.agones4j;
+
+import allocation.Allocation;
+import io.grpc.Context;
+import io.grpc.stub.StreamObserver;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a batch of allocations with bounded parallelism and collects a result for each of them.
+ * <p>
+ * Every allocation is started in the gRPC context of the caller, not in the context of the allocation that completed
+ * before it.
+ */
+final class AllocationBatch {
+
+    private final AgonesAllocator allocator;
+    private final List<Allocation.AllocationRequest> requests;
+    private final StreamObserver<List<AllocationResult>> response;
+    private final AllocationResult[] results;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicInteger remaining;
+    private final Context context = Context.current();
+
+    AllocationBatch(
+        final AgonesAllocator allocator,
+        final List<Allocation.AllocationRequest> requests,
+        final StreamObserver<List<AllocationResult>> response
+    ) {
+        this.allocator = allocator;
+        this.requests = requests;
+        this.response = response;
+        this.results = new AllocationResult[requests.size()];
+        this.remaining = new AtomicInteger(requests.size());
+    }
+
+    void start(final int parallelism) {
+        if (this.requests.isEmpty()) {
+            this.complete();
+            return;
+        }
+        final int workers = Math.min(parallelism, this.requests.size());
+        for (int i = 0; i < workers; i++) {
+            this.allocateNext();
+        }
+    }
+
+    private void allocateNext() {
+        final int index = this.next.getAndIncrement();
+        if (index >= this.requests.size()) {
+            return;
+        }
+        final Allocation.AllocationRequest request = this.requests.get(index);
+        this.allocator.allocateFuture(request).whenComplete((allocated, error) -> {
+                this.results[index] = new AllocationResult(request, allocated, error);
+                if (this.remaining.decrementAndGet() == 0) {
+                    this.complete();
+                } else {
+                    this.context.run(this::allocateNext);
+                }
+            });
+    }
+
+    private void complete() {
+        this.response.onNext(Arrays.asList(this.results));
+        this.response.onCompleted();
+    }
+}
@@ -0,0 +1,147 @@
+package net.infumia.agones4j;
+
+import allocation.Allocation;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents a single allocation that may be sent to more than one endpoint.
+ * <p>
+ * The first attempt that succeeds completes the allocation and the other attempts are cancelled. The allocation fails
+ * only when every started attempt has failed.
+ */
+final class AllocationCall {
+
+    private final Allocation.AllocationRequest request;
+    private final StreamObserver<Allocation.AllocationResponse> response;
+    private final LatencyHistogram latencies;
+    private final Runnable release;
+
+    private final List<Attempt> attempts = new CopyOnWriteArrayList<>();
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicBoolean done = new AtomicBoolean();
+    private volatile ScheduledFuture<?> hedge;
+
+    AllocationCall(
+        final Allocation.AllocationRequest request,
+        final StreamObserver<Allocation.AllocationResponse> response,
+        final LatencyHistogram latencies,
+        final Runnable release
+    ) {
+        this.request = request;
+        this.response = response;
+        this.latencies = latencies;
+        this.release = release;
+    }
+
+    boolean isDone() {
+        return this.done.get();
+    }
+
+    AllocatorEndpoint firstEndpoint() {
+        return this.attempts.isEmpty() ? null : this.attempts.get(0).endpoint;
+    }
+
+    void hedge(final ScheduledFuture<?> hedge) {
+        this.hedge = hedge;
+        if (this.done.get()) {
+            hedge.cancel(false);
+        }
+    }
+
+    void attempt(final AllocatorEndpoint endpoint) {
+        if (this.done.get()) {
+            return;
+        }
+        final Attempt attempt = new Attempt(endpoint);
+        this.attempts.add(attempt);
+        this.outstanding.incrementAndGet();
+        endpoint.started();
+        endpoint.stub().allocate(this.request, attempt);
+        if (this.done.get()) {
+            attempt.cancel();
+        }
+    }
+
+    private void finish(final Attempt winner) {
+        final ScheduledFuture<?> hedge = this.hedge;
+        if (hedge != null) {
+            hedge.cancel(false);
+        }
+        for (final Attempt attempt : this.attempts) {
+            if (attempt != winner) {
+                attempt.cancel();
+            }
+        }
+        this.release.run();
+    }
+
+    private final class Attempt
+        implements ClientResponseObserver<Allocation.AllocationRequest, Allocation.AllocationResponse> {
+
+        private final AllocatorEndpoint endpoint;
+        private final long startedAt = System.nanoTime();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private volatile ClientCallStreamObserver<Allocation.AllocationRequest> call;
+        private Allocation.AllocationResponse value;
+
+        private Attempt(final AllocatorEndpoint endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        public void beforeStart(
+            final ClientCallStreamObserver<Allocation.AllocationRequest> requestStream
+        ) {
+            this.call = requestStream;
+        }
+
+        @Override
+        public void onNext(final Allocation.AllocationResponse value) {
+            this.value = value;
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            AllocationCall.this.outstanding.decrementAndGet();
+            if (this.cancelled.get()) {
+                this.endpoint.cancelled();
+                return;
+            }
+            this.endpoint.completed(System.nanoTime() - this.startedAt, false);
+            if (
+                AllocationCall.this.outstanding.get() == 0 &&
+                AllocationCall.this.done.compareAndSet(false, true)
+            ) {
+                AllocationCall.this.finish(this);
+                AllocationCall.this.response.onError(t);
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            AllocationCall.this.outstanding.decrementAndGet();
+            final long latency = System.nanoTime() - this.startedAt;
+            this.endpoint.completed(latency, true);
+            AllocationCall.this.latencies.record(latency);
+            if (AllocationCall.this.done.compareAndSet(false, true)) {
+                AllocationCall.this.finish(this);
+                AllocationCall.this.response.onNext(this.value);
+                AllocationCall.this.response.onCompleted();
+            }
+        }
+
+        private void cancel() {
+            final ClientCallStreamObserver<Allocation.AllocationRequest> call = this.call;
+            if (call != null && this.cancelled.compareAndSet(false, true)) {
+                call.cancel("Another allocation attempt has won", null);
+            }
+        }
+    }
+}
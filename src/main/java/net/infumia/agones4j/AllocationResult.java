@@ -0,0 +1,91 @@
+package net.infumia.agones4j;
+
+import allocation.Allocation;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Represents the outcome of a single allocation in a batch.
+ */
+public final class AllocationResult {
+
+    private final Allocation.AllocationRequest request;
+    private final Allocation.AllocationResponse response;
+    private final Throwable error;
+
+    AllocationResult(
+        final Allocation.AllocationRequest request,
+        final Allocation.AllocationResponse response,
+        final Throwable error
+    ) {
+        this.request = request;
+        this.response = response;
+        this.error = error;
+    }
+
+    /**
+     * Retrieves the allocation request.
+     *
+     * @return the request.
+     */
+    public Allocation.AllocationRequest getRequest() {
+        return this.request;
+    }
+
+    /**
+     * Retrieves the allocation response.
+     *
+     * @return the response, {@code null} if the allocation failed.
+     */
+    public Allocation.AllocationResponse getResponse() {
+        return this.response;
+    }
+
+    /**
+     * Retrieves the allocation error.
+     *
+     * @return the error, {@code null} if the allocation succeeded.
+     */
+    public Throwable getError() {
+        return this.error;
+    }
+
+    /**
+     * Checks if the allocation succeeded.
+     *
+     * @return {@code true} if the allocation succeeded, {@code false} otherwise.
+     */
+    public boolean isSuccess() {
+        return this.error == null;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || this.getClass() != obj.getClass()) {
+            return false;
+        }
+        final AllocationResult that = (AllocationResult) obj;
+        return (
+            Objects.equals(this.request, that.request) &&
+            Objects.equals(this.response, that.response) &&
+            Objects.equals(this.error, that.error)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.request, this.response, this.error);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", AllocationResult.class.getSimpleName() + "[", "]")
+            .add("request=" + this.request)
+            .add("response=" + this.response)
+            .add("error=" + this.error)
+            .toString();
+    }
+}
@@ -0,0 +1,58 @@
+package net.infumia.agones4j;
+
+import allocation.Allocation;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Represents a prebuilt allocation request.
+ * <p>
+ * The selectors, metadata patch, counter and list actions are built once and shared by every request created from the
+ * template, since protobuf messages are immutable.
+ */
+public final class AllocationTemplate {
+
+    private final Allocation.AllocationRequest request;
+
+    private AllocationTemplate(final Allocation.AllocationRequest request) {
+        this.request = request;
+    }
+
+    /**
+     * Creates a template from a prebuilt allocation request.
+     *
+     * @param request the request to use as the template.
+     *
+     * @return the template.
+     */
+    public static AllocationTemplate of(final Allocation.AllocationRequest request) {
+        Objects.requireNonNull(request, "request");
+        return new AllocationTemplate(request);
+    }
+
+    /**
+     * Retrieves the prebuilt request.
+     *
+     * @return the request.
+     */
+    public Allocation.AllocationRequest request() {
+        return this.request;
+    }
+
+    /**
+     * Creates a request from the template with per-request changes.
+     * <p>
+     * Fields that are not changed by the customizer keep sharing the prebuilt messages of the template.
+     *
+     * @param customizer the customizer to apply the per-request changes.
+     *
+     * @return the request.
+     */
+    public Allocation.AllocationRequest request(
+        final Consumer<Allocation.AllocationRequest.Builder> customizer
+    ) {
+        final Allocation.AllocationRequest.Builder builder = this.request.toBuilder();
+        customizer.accept(builder);
+        return builder.build();
+    }
+}
@@ -0,0 +1,104 @@
+package net.infumia.agones4j;
+
+import allocation.AllocationServiceGrpc;
+import io.grpc.ManagedChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents an allocator endpoint with its pool of long-lived channels.
+ * <p>
+ * The endpoint keeps a moving average of the latency of its successful calls and of its error rate. The latency decays
+ * towards the baseline of the healthy endpoints and the error rate towards zero while the endpoint is not used, so an
+ * endpoint that was slow or failing is tried again after a while. Errors add a penalty in units of the baseline, so an
+ * endpoint that fails fast does not look faster than a healthy one.
+ */
+final class AllocatorEndpoint {
+
+    private static final double ALPHA = 0.2D;
+    private static final double ERROR_PENALTY = 10.0D;
+    private static final double HEALTHY_ERRORS = 0.5D;
+    private static final double DECAY_NANOS = TimeUnit.SECONDS.toNanos(10L);
+
+    private final List<ManagedChannel> channels;
+    private final List<AllocationServiceGrpc.AllocationServiceStub> stubs = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private boolean measured;
+    private double latency;
+    private double errors;
+    private long updatedAt = System.nanoTime();
+
+    AllocatorEndpoint(final List<ManagedChannel> channels) {
+        this.channels = channels;
+        for (final ManagedChannel channel : channels) {
+            this.stubs.add(AllocationServiceGrpc.newStub(channel));
+        }
+    }
+
+    AllocationServiceGrpc.AllocationServiceStub stub() {
+        return this.stubs.get(Math.floorMod(this.next.getAndIncrement(), this.stubs.size()));
+    }
+
+    void started() {
+        this.inFlight.incrementAndGet();
+    }
+
+    synchronized void completed(final long latencyNanos, final boolean success) {
+        this.inFlight.decrementAndGet();
+        final long now = System.nanoTime();
+        final double decay = this.decay(now);
+        if (success) {
+            this.latency = this.measured
+                ? this.latency * (1.0D - AllocatorEndpoint.ALPHA) +
+                latencyNanos * AllocatorEndpoint.ALPHA
+                : latencyNanos;
+            this.measured = true;
+        }
+        this.errors =
+            this.errors * decay * (1.0D - AllocatorEndpoint.ALPHA) +
+            (success ? 0.0D : AllocatorEndpoint.ALPHA);
+        this.updatedAt = now;
+    }
+
+    void cancelled() {
+        this.inFlight.decrementAndGet();
+    }
+
+    synchronized double healthyLatency(final long now) {
+        if (!this.measured || this.errors * this.decay(now) >= AllocatorEndpoint.HEALTHY_ERRORS) {
+            return -1.0D;
+        }
+        return this.latency;
+    }
+
+    synchronized double score(final long now, final double baseline) {
+        final double decay = this.decay(now);
+        final double latency = this.measured
+            ? this.latency * decay + baseline * (1.0D - decay)
+            : baseline;
+        return (
+            (latency + AllocatorEndpoint.ERROR_PENALTY * this.errors * decay * baseline) *
+            (this.inFlight.get() + 1)
+        );
+    }
+
+    void shutdown() {
+        for (final ManagedChannel channel : this.channels) {
+            channel.shutdown();
+        }
+    }
+
+    void awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        for (final ManagedChannel channel : this.channels) {
+            channel.awaitTermination(timeout, unit);
+        }
+    }
+
+    private double decay(final long now) {
+        return Math.exp(-(now - this.updatedAt) / AllocatorEndpoint.DECAY_NANOS);
+    }
+}
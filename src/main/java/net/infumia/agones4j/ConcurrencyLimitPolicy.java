@@ -0,0 +1,358 @@
+package net.infumia.agones4j;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Represents the limits of the calls in flight of each {@link MethodGroup}.
+ * <p>
+ * An adaptive limit follows AIMD: it grows by one for every call that succeeds while the limit is in use, and shrinks by
+ * 10% for every call that fails with {@code UNAVAILABLE}, {@code DEADLINE_EXCEEDED} or {@code RESOURCE_EXHAUSTED}, or
+ * that takes more than twice the median latency of its group. A fixed limit never changes.
+ * <p>
+ * Calls over the limit are handled by the {@link Overflow} mode. Rejected calls fail with
+ * {@link io.grpc.Status#RESOURCE_EXHAUSTED}.
+ */
+public final class ConcurrencyLimitPolicy {
+
+    private static final ConcurrencyLimitPolicy NONE = new ConcurrencyLimitPolicy(
+        new int[MethodGroup.values().length],
+        true,
+        1,
+        256,
+        Overflow.QUEUE,
+        Duration.ofSeconds(1L).toNanos(),
+        1024
+    );
+
+    private static final ConcurrencyLimitPolicy DEFAULTS = ConcurrencyLimitPolicy.NONE
+        .with(MethodGroup.METADATA, 16)
+        .with(MethodGroup.PLAYER_TRACKING, 16)
+        .with(MethodGroup.COUNTERS_AND_LISTS, 16);
+
+    private final int[] limits;
+    private final boolean adaptive;
+    private final int minLimit;
+    private final int maxLimit;
+    private final Overflow overflow;
+    private final long maxWaitNanos;
+    private final int maxQueued;
+
+    private ConcurrencyLimitPolicy(
+        final int[] limits,
+        final boolean adaptive,
+        final int minLimit,
+        final int maxLimit,
+        final Overflow overflow,
+        final long maxWaitNanos,
+        final int maxQueued
+    ) {
+        this.limits = limits;
+        this.adaptive = adaptive;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.overflow = overflow;
+        this.maxWaitNanos = maxWaitNanos;
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * Retrieves the policy without limits.
+     *
+     * @return The policy without limits.
+     */
+    public static ConcurrencyLimitPolicy none() {
+        return ConcurrencyLimitPolicy.NONE;
+    }
+
+    /**
+     * Retrieves the default policy.
+     * <p>
+     * Metadata, player tracking, and counter and list calls start with an adaptive limit of 16 between 1 and 256.
+     * Lifecycle calls are not limited, so they never wait behind a burst of other calls. Calls over the limit are queued
+     * for up to 1 second, with up to 1024 queued calls per group.
+     *
+     * @return The default policy.
+     */
+    public static ConcurrencyLimitPolicy defaults() {
+        return ConcurrencyLimitPolicy.DEFAULTS;
+    }
+
+    /**
+     * Creates a copy of the policy with the limit of the group.
+     *
+     * @param group the group to set.
+     * @param limit the initial limit of the calls in flight of the group. 0 to remove it.
+     *
+     * @return A new policy with the limit.
+     */
+    public ConcurrencyLimitPolicy with(final MethodGroup group, final int limit) {
+        Objects.requireNonNull(group, "group");
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative!");
+        }
+        final int[] limits = this.limits.clone();
+        limits[group.ordinal()] = limit;
+        return new ConcurrencyLimitPolicy(
+            limits,
+            this.adaptive,
+            this.minLimit,
+            this.maxLimit,
+            this.overflow,
+            this.maxWaitNanos,
+            this.maxQueued
+        );
+    }
+
+    /**
+     * Creates a copy of the policy with adaptive limits.
+     *
+     * @param adaptive {@code true} to adapt the limits to the measured latencies and errors, {@code false} to keep them
+     * fixed.
+     *
+     * @return A new policy with adaptive limits.
+     */
+    public ConcurrencyLimitPolicy withAdaptive(final boolean adaptive) {
+        return new ConcurrencyLimitPolicy(
+            this.limits,
+            adaptive,
+            this.minLimit,
+            this.maxLimit,
+            this.overflow,
+            this.maxWaitNanos,
+            this.maxQueued
+        );
+    }
+
+    /**
+     * Creates a copy of the policy with the bounds of the adaptive limits.
+     *
+     * @param minLimit the min limit.
+     * @param maxLimit the max limit.
+     *
+     * @return A new policy with the bounds.
+     */
+    public ConcurrencyLimitPolicy withLimitBounds(final int minLimit, final int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException(
+                "Min limit must be at least 1 and not greater than max limit!"
+            );
+        }
+        return new ConcurrencyLimitPolicy(
+            this.limits,
+            this.adaptive,
+            minLimit,
+            maxLimit,
+            this.overflow,
+            this.maxWaitNanos,
+            this.maxQueued
+        );
+    }
+
+    /**
+     * Creates a copy of the policy with the overflow mode.
+     *
+     * @param overflow the handling of the calls over the limit.
+     *
+     * @return A new policy with the overflow mode.
+     */
+    public ConcurrencyLimitPolicy withOverflow(final Overflow overflow) {
+        Objects.requireNonNull(overflow, "overflow");
+        return new ConcurrencyLimitPolicy(
+            this.limits,
+            this.adaptive,
+            this.minLimit,
+            this.maxLimit,
+            overflow,
+            this.maxWaitNanos,
+            this.maxQueued
+        );
+    }
+
+    /**
+     * Creates a copy of the policy with the queue bounds.
+     *
+     * @param maxWait the max time a call waits in the queue.
+     * @param maxQueued the max number of queued calls per group.
+     *
+     * @return A new policy with the queue bounds.
+     */
+    public ConcurrencyLimitPolicy withQueue(final Duration maxWait, final int maxQueued) {
+        Objects.requireNonNull(maxWait, "maxWait");
+        if (maxWait.isNegative() || maxWait.isZero()) {
+            throw new IllegalArgumentException("Max wait must be positive!");
+        }
+        if (maxQueued < 1) {
+            throw new IllegalArgumentException("Max queued must be at least 1!");
+        }
+        return new ConcurrencyLimitPolicy(
+            this.limits,
+            this.adaptive,
+            this.minLimit,
+            this.maxLimit,
+            this.overflow,
+            maxWait.toNanos(),
+            maxQueued
+        );
+    }
+
+    /**
+     * Retrieves the initial limit of the group.
+     *
+     * @param group the group to get.
+     *
+     * @return the initial limit of the group, or 0 if the group has no limit.
+     */
+    public int get(final MethodGroup group) {
+        return this.limits[group.ordinal()];
+    }
+
+    /**
+     * Checks if the policy has no limits.
+     *
+     * @return {@code true} if no group has a limit, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        for (final int limit : this.limits) {
+            if (limit != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the limits adapt to the measured latencies and errors.
+     *
+     * @return {@code true} if the limits are adaptive, {@code false} otherwise.
+     */
+    public boolean isAdaptive() {
+        return this.adaptive;
+    }
+
+    /**
+     * Retrieves the min adaptive limit.
+     *
+     * @return the min limit.
+     */
+    public int getMinLimit() {
+        return this.minLimit;
+    }
+
+    /**
+     * Retrieves the max adaptive limit.
+     *
+     * @return the max limit.
+     */
+    public int getMaxLimit() {
+        return this.maxLimit;
+    }
+
+    /**
+     * Retrieves the handling of the calls over the limit.
+     *
+     * @return the overflow mode.
+     */
+    public Overflow getOverflow() {
+        return this.overflow;
+    }
+
+    /**
+     * Retrieves the max time a call waits in the queue.
+     *
+     * @return the max wait.
+     */
+    public Duration getMaxWait() {
+        return Duration.ofNanos(this.maxWaitNanos);
+    }
+
+    /**
+     * Retrieves the max number of queued calls per group.
+     *
+     * @return the max queued calls.
+     */
+    public int getMaxQueued() {
+        return this.maxQueued;
+    }
+
+    long maxWaitNanos() {
+        return this.maxWaitNanos;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || this.getClass() != obj.getClass()) {
+            return false;
+        }
+        final ConcurrencyLimitPolicy that = (ConcurrencyLimitPolicy) obj;
+        return (
+            Arrays.equals(this.limits, that.limits) &&
+            this.adaptive == that.adaptive &&
+            this.minLimit == that.minLimit &&
+            this.maxLimit == that.maxLimit &&
+            this.overflow == that.overflow &&
+            this.maxWaitNanos == that.maxWaitNanos &&
+            this.maxQueued == that.maxQueued
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            Arrays.hashCode(this.limits),
+            this.adaptive,
+            this.minLimit,
+            this.maxLimit,
+            this.overflow,
+            this.maxWaitNanos,
+            this.maxQueued
+        );
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner joiner = new StringJoiner(
+            ", ",
+            ConcurrencyLimitPolicy.class.getSimpleName() + "[",
+            "]"
+        );
+        for (final MethodGroup group : MethodGroup.values()) {
+            joiner.add(group + "=" + this.get(group));
+        }
+        return joiner
+            .add("adaptive=" + this.adaptive)
+            .add("minLimit=" + this.minLimit)
+            .add("maxLimit=" + this.maxLimit)
+            .add("overflow=" + this.overflow)
+            .add("maxWait=" + this.getMaxWait())
+            .add("maxQueued=" + this.maxQueued)
+            .toString();
+    }
+
+    /**
+     * Represents the handling of the calls over the limit.
+     */
+    public enum Overflow {
+        /**
+         * Waits in the queue of the group until a call completes, and fails once the max wait is exceeded or the queue
+         * is full. A call whose deadline comes before the max wait fails with
+         * {@link io.grpc.Status#DEADLINE_EXCEEDED} once the deadline is exceeded.
+         */
+        QUEUE,
+        /**
+         * Fails at once.
+         */
+        FAIL_FAST,
+        /**
+         * Shares the answer of a queued call with the same request when the method is idempotent, and queues
+         * otherwise. Counter deltas, list value additions and removals, player connects and disconnects, and lifecycle
+         * calls are never coalesced.
+         */
+        COALESCE
+    }
+}
@@ -0,0 +1,110 @@
+package net.infumia.agones4j;
+
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Represents the state and the counters of the concurrency limit of a {@link MethodGroup}.
+ */
+public final class ConcurrencyLimitStats {
+
+    private final int limit;
+    private final int inFlight;
+    private final int queued;
+    private final long rejected;
+    private final long coalesced;
+
+    ConcurrencyLimitStats(
+        final int limit,
+        final int inFlight,
+        final int queued,
+        final long rejected,
+        final long coalesced
+    ) {
+        this.limit = limit;
+        this.inFlight = inFlight;
+        this.queued = queued;
+        this.rejected = rejected;
+        this.coalesced = coalesced;
+    }
+
+    /**
+     * Retrieves the current limit of the calls in flight.
+     *
+     * @return the limit.
+     */
+    public int getLimit() {
+        return this.limit;
+    }
+
+    /**
+     * Retrieves the number of calls in flight.
+     *
+     * @return the calls in flight.
+     */
+    public int getInFlight() {
+        return this.inFlight;
+    }
+
+    /**
+     * Retrieves the number of calls waiting in the queue.
+     *
+     * @return the queue depth.
+     */
+    public int getQueued() {
+        return this.queued;
+    }
+
+    /**
+     * Retrieves the number of calls rejected because the queue was full, the max wait was exceeded or the overflow mode
+     * fails fast.
+     *
+     * @return the rejected calls.
+     */
+    public long getRejected() {
+        return this.rejected;
+    }
+
+    /**
+     * Retrieves the number of calls that shared the answer of a queued call with the same request.
+     *
+     * @return the coalesced calls.
+     */
+    public long getCoalesced() {
+        return this.coalesced;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || this.getClass() != obj.getClass()) {
+            return false;
+        }
+        final ConcurrencyLimitStats that = (ConcurrencyLimitStats) obj;
+        return (
+            this.limit == that.limit &&
+            this.inFlight == that.inFlight &&
+            this.queued == that.queued &&
+            this.rejected == that.rejected &&
+            this.coalesced == that.coalesced
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.limit, this.inFlight, this.queued, this.rejected, this.coalesced);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", ConcurrencyLimitStats.class.getSimpleName() + "[", "]")
+            .add("limit=" + this.limit)
+            .add("inFlight=" + this.inFlight)
+            .add("queued=" + this.queued)
+            .add("rejected=" + this.rejected)
+            .add("coalesced=" + this.coalesced)
+            .toString();
+    }
+}
@@ -0,0 +1,654 @@
+package net.infumia.agones4j;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Deadline;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Limits the unary calls in flight of each method group and holds the calls over the limit until a call completes.
+ * <p>
+ * A held call buffers its messages and starts on the channel once it gets a permit, so the deadline of the call also
+ * covers the time spent in the queue. Calls rejected or completed by the limiter are closed on the executor of the call,
+ * like the calls of the channel, and the callbacks of each call run one at a time and in order. A coalesced call keeps
+ * its own deadline while it waits for the answer of the call it follows.
+ */
+final class ConcurrencyLimiter implements ClientInterceptor {
+
+    private static final double BACKOFF_RATIO = 0.9D;
+    private static final double LATENCY_TOLERANCE = 2.0D;
+    private static final long MIN_SAMPLES = 100L;
+    private static final long WINDOW = 1000L;
+
+    private final ConcurrencyLimitPolicy policy;
+    private final Supplier<ScheduledExecutorService> scheduler;
+    private final Group[] groups = new Group[MethodGroup.values().length];
+
+    ConcurrencyLimiter(
+        final ConcurrencyLimitPolicy policy,
+        final Supplier<ScheduledExecutorService> scheduler
+    ) {
+        this.policy = policy;
+        this.scheduler = scheduler;
+        for (final MethodGroup group : MethodGroup.values()) {
+            final int limit = policy.get(group);
+            if (limit != 0) {
+                this.groups[group.ordinal()] = new Group(group, limit);
+            }
+        }
+    }
+
+    Map<MethodGroup, ConcurrencyLimitStats> stats() {
+        final Map<MethodGroup, ConcurrencyLimitStats> stats = new EnumMap<>(MethodGroup.class);
+        for (final Group group : this.groups) {
+            if (group != null) {
+                stats.put(group.group, group.stats());
+            }
+        }
+        return stats;
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+        final MethodDescriptor<ReqT, RespT> method,
+        final CallOptions callOptions,
+        final Channel next
+    ) {
+        final MethodGroup group = MethodGroup.of(method);
+        final Group limit = group == null ? null : this.groups[group.ordinal()];
+        if (limit == null) {
+            return next.newCall(method, callOptions);
+        }
+        return new LimitedCall<>(limit, method, callOptions, next, Context.current());
+    }
+
+    private enum Admission {
+        STARTED,
+        QUEUED,
+        REJECTED
+    }
+
+    private final class Group {
+
+        private final MethodGroup group;
+        private final LinkedList<LimitedCall<?, ?>> queue = new LinkedList<>();
+        private final LatencyHistogram latencies = new LatencyHistogram(ConcurrencyLimiter.WINDOW);
+        private double limit;
+        private int inFlight;
+        private long rejected;
+        private long coalesced;
+
+        private Group(final MethodGroup group, final int limit) {
+            this.group = group;
+            this.limit = ConcurrencyLimiter.this.policy.isAdaptive()
+                ? Math.max(
+                    ConcurrencyLimiter.this.policy.getMinLimit(),
+                    Math.min(ConcurrencyLimiter.this.policy.getMaxLimit(), limit)
+                )
+                : limit;
+        }
+
+        private synchronized Admission admit(final LimitedCall<?, ?> call) {
+            if (this.queue.isEmpty() && this.inFlight < (int) this.limit) {
+                this.inFlight++;
+                return Admission.STARTED;
+            }
+            final ConcurrencyLimitPolicy policy = ConcurrencyLimiter.this.policy;
+            if (
+                policy.getOverflow() == ConcurrencyLimitPolicy.Overflow.FAIL_FAST ||
+                this.queue.size() >= policy.getMaxQueued()
+            ) {
+                this.rejected++;
+                return Admission.REJECTED;
+            }
+            this.queue.add(call);
+            call.queued = true;
+            return Admission.QUEUED;
+        }
+
+        private synchronized boolean expire(final LimitedCall<?, ?> call) {
+            if (!this.remove(call)) {
+                return false;
+            }
+            this.rejected++;
+            return true;
+        }
+
+        private synchronized boolean remove(final LimitedCall<?, ?> call) {
+            if (call.leader != null) {
+                call.leader.followers.remove(call);
+                call.leader = null;
+                return true;
+            }
+            if (!call.queued) {
+                return false;
+            }
+            call.queued = false;
+            final ListIterator<LimitedCall<?, ?>> iterator = this.queue.listIterator();
+            while (iterator.hasNext()) {
+                if (iterator.next() != call) {
+                    continue;
+                }
+                if (call.followers.isEmpty()) {
+                    iterator.remove();
+                } else {
+                    final LimitedCall<?, ?> leader = call.followers.remove(0);
+                    leader.leader = null;
+                    leader.queued = true;
+                    leader.coalescingRequest = call.coalescingRequest;
+                    for (final LimitedCall<?, ?> follower : call.followers) {
+                        follower.leader = leader;
+                        leader.followers.add(follower);
+                    }
+                    call.followers.clear();
+                    iterator.set(leader);
+                }
+                break;
+            }
+            return true;
+        }
+
+        private synchronized boolean coalesce(final LimitedCall<?, ?> call, final Object request) {
+            if (!call.queued) {
+                return false;
+            }
+            for (final LimitedCall<?, ?> leader : this.queue) {
+                if (
+                    leader != call &&
+                    leader.method == call.method &&
+                    request.equals(leader.coalescingRequest)
+                ) {
+                    this.queue.remove(call);
+                    call.queued = false;
+                    call.leader = leader;
+                    leader.followers.add(call);
+                    this.coalesced++;
+                    return true;
+                }
+            }
+            call.coalescingRequest = request;
+            return false;
+        }
+
+        private synchronized List<LimitedCall<?, ?>> followers(final LimitedCall<?, ?> leader) {
+            if (leader.followers.isEmpty()) {
+                return Collections.emptyList();
+            }
+            final List<LimitedCall<?, ?>> followers = new ArrayList<>(leader.followers);
+            for (final LimitedCall<?, ?> follower : followers) {
+                follower.leader = null;
+            }
+            leader.followers.clear();
+            return followers;
+        }
+
+        private void release(final long nanos, final Status.Code code) {
+            final List<LimitedCall<?, ?>> started = new ArrayList<>();
+            synchronized (this) {
+                if (code != null) {
+                    this.adapt(nanos, code);
+                }
+                this.inFlight--;
+                while (this.inFlight < (int) this.limit && !this.queue.isEmpty()) {
+                    final LimitedCall<?, ?> call = this.queue.poll();
+                    call.queued = false;
+                    this.inFlight++;
+                    started.add(call);
+                }
+            }
+            for (final LimitedCall<?, ?> call : started) {
+                call.begin();
+            }
+        }
+
+        private void adapt(final long nanos, final Status.Code code) {
+            final boolean dropped;
+            if (code == Status.Code.OK) {
+                dropped =
+                    this.latencies.count() >= ConcurrencyLimiter.MIN_SAMPLES &&
+                    nanos > this.latencies.percentile(50.0D) * ConcurrencyLimiter.LATENCY_TOLERANCE;
+                this.latencies.record(nanos);
+            } else {
+                dropped =
+                    code == Status.Code.UNAVAILABLE ||
+                    code == Status.Code.DEADLINE_EXCEEDED ||
+                    code == Status.Code.RESOURCE_EXHAUSTED;
+            }
+            final ConcurrencyLimitPolicy policy = ConcurrencyLimiter.this.policy;
+            if (!policy.isAdaptive()) {
+                return;
+            }
+            if (dropped) {
+                this.limit = Math.max(
+                    policy.getMinLimit(),
+                    this.limit * ConcurrencyLimiter.BACKOFF_RATIO
+                );
+            } else if (code == Status.Code.OK && this.inFlight * 2 >= this.limit) {
+                this.limit = Math.min(policy.getMaxLimit(), this.limit + 1.0D);
+            }
+        }
+
+        private synchronized ConcurrencyLimitStats stats() {
+            return new ConcurrencyLimitStats(
+                (int) this.limit,
+                this.inFlight,
+                this.queue.size(),
+                this.rejected,
+                this.coalesced
+            );
+        }
+    }
+
+    private final class LimitedCall<ReqT, RespT>
+        extends ClientCall<ReqT, RespT>
+        implements Context.CancellationListener {
+
+        private final Group group;
+        private final MethodDescriptor<ReqT, RespT> method;
+        private final CallOptions callOptions;
+        private final Channel next;
+        private final Context context;
+        private final List<LimitedCall<?, ?>> followers = new ArrayList<>(0);
+        private final List<ReqT> messages = new ArrayList<>(1);
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingTasks = new AtomicInteger();
+        private Listener<RespT> listener;
+        private Metadata headers;
+        private int requested;
+        private boolean halfClosed;
+        private Boolean messageCompression;
+        private ClientCall<ReqT, RespT> delegate;
+        private ScheduledFuture<?> timeout;
+        private volatile boolean closed;
+        private volatile boolean following;
+        private boolean queued;
+        private LimitedCall<?, ?> leader;
+        private Object coalescingRequest;
+
+        private LimitedCall(
+            final Group group,
+            final MethodDescriptor<ReqT, RespT> method,
+            final CallOptions callOptions,
+            final Channel next,
+            final Context context
+        ) {
+            this.group = group;
+            this.method = method;
+            this.callOptions = callOptions;
+            this.next = next;
+            this.context = context;
+        }
+
+        @Override
+        public void start(final Listener<RespT> responseListener, final Metadata headers) {
+            this.listener = responseListener;
+            this.headers = headers;
+            final Admission admission = this.group.admit(this);
+            if (admission == Admission.STARTED) {
+                this.begin();
+                return;
+            }
+            if (admission == Admission.REJECTED) {
+                this.close(
+                        Status.RESOURCE_EXHAUSTED.withDescription(
+                            "Concurrency limit of " + this.group.group + " is reached"
+                        )
+                    );
+                return;
+            }
+            this.context.addListener(this, Runnable::run);
+            final long maxWaitNanos = ConcurrencyLimiter.this.policy.maxWaitNanos();
+            final Deadline deadline = this.callOptions.getDeadline();
+            final long deadlineNanos = deadline == null
+                ? Long.MAX_VALUE
+                : Math.max(0L, deadline.timeRemaining(TimeUnit.NANOSECONDS));
+            final Runnable expire = deadlineNanos < maxWaitNanos
+                ? this::deadlineExceeded
+                : this::expire;
+            this.schedule(expire, Math.min(deadlineNanos, maxWaitNanos));
+        }
+
+        @Override
+        public void cancelled(final Context context) {
+            if (!this.markClosed()) {
+                return;
+            }
+            this.group.remove(this);
+            this.notifyClosed(Contexts.statusFromCancelled(context), new Metadata());
+        }
+
+        @Override
+        public void request(final int numMessages) {
+            final ClientCall<ReqT, RespT> delegate;
+            synchronized (this) {
+                delegate = this.delegate;
+                if (delegate == null) {
+                    this.requested += numMessages;
+                    return;
+                }
+            }
+            delegate.request(numMessages);
+        }
+
+        @Override
+        public void sendMessage(final ReqT message) {
+            final ClientCall<ReqT, RespT> delegate;
+            synchronized (this) {
+                delegate = this.delegate;
+                if (delegate == null) {
+                    this.messages.add(message);
+                    return;
+                }
+            }
+            delegate.sendMessage(message);
+        }
+
+        @Override
+        public void halfClose() {
+            final ClientCall<ReqT, RespT> delegate;
+            final ReqT request;
+            synchronized (this) {
+                delegate = this.delegate;
+                if (delegate == null) {
+                    this.halfClosed = true;
+                }
+                request = this.messages.size() == 1 ? this.messages.get(0) : null;
+            }
+            if (delegate != null) {
+                delegate.halfClose();
+                return;
+            }
+            if (
+                request != null &&
+                ConcurrencyLimiter.this.policy.getOverflow() ==
+                ConcurrencyLimitPolicy.Overflow.COALESCE &&
+                RetryPolicy.isIdempotent(this.method, request)
+            ) {
+                this.group.coalesce(this, request);
+            }
+        }
+
+        @Override
+        public void cancel(final String message, final Throwable cause) {
+            final ClientCall<ReqT, RespT> delegate;
+            final boolean closing;
+            synchronized (this) {
+                delegate = this.delegate;
+                closing = this.markClosed();
+            }
+            if (delegate != null) {
+                delegate.cancel(message, cause);
+                return;
+            }
+            if (!closing) {
+                return;
+            }
+            this.group.remove(this);
+            this.notifyClosed(
+                    Status.CANCELLED.withDescription(message).withCause(cause),
+                    new Metadata()
+                );
+        }
+
+        @Override
+        public boolean isReady() {
+            final ClientCall<ReqT, RespT> delegate;
+            synchronized (this) {
+                delegate = this.delegate;
+            }
+            return delegate != null && delegate.isReady();
+        }
+
+        @Override
+        public void setMessageCompression(final boolean enabled) {
+            final ClientCall<ReqT, RespT> delegate;
+            synchronized (this) {
+                delegate = this.delegate;
+                if (delegate == null) {
+                    this.messageCompression = enabled;
+                    return;
+                }
+            }
+            delegate.setMessageCompression(enabled);
+        }
+
+        private void begin() {
+            this.context.removeListener(this);
+            if (!this.startDelegate()) {
+                this.group.release(0L, null);
+            }
+        }
+
+        private synchronized boolean startDelegate() {
+            if (this.timeout != null) {
+                this.timeout.cancel(false);
+            }
+            if (this.closed) {
+                return false;
+            }
+            final Context previous = this.context.attach();
+            try {
+                final ClientCall<ReqT, RespT> delegate = this.next.newCall(
+                        this.method,
+                        this.callOptions
+                    );
+                final List<LimitedCall<?, ?>> followers = this.group.followers(this);
+                for (final LimitedCall<?, ?> follower : followers) {
+                    follower.follow();
+                }
+                delegate.start(new Releasing(followers, System.nanoTime()), this.headers);
+                if (this.messageCompression != null) {
+                    delegate.setMessageCompression(this.messageCompression);
+                }
+                if (this.requested > 0) {
+                    delegate.request(this.requested);
+                }
+                for (final ReqT message : this.messages) {
+                    delegate.sendMessage(message);
+                }
+                if (this.halfClosed) {
+                    delegate.halfClose();
+                }
+                this.messages.clear();
+                this.delegate = delegate;
+            } finally {
+                this.context.detach(previous);
+            }
+            return true;
+        }
+
+        private void expire() {
+            if (!this.group.expire(this)) {
+                return;
+            }
+            this.close(
+                    Status.RESOURCE_EXHAUSTED.withDescription(
+                        "Waited longer than " +
+                        Duration.ofNanos(ConcurrencyLimiter.this.policy.maxWaitNanos()) +
+                        " for the concurrency limit of " +
+                        this.group.group
+                    )
+                );
+        }
+
+        private void follow() {
+            this.following = true;
+            synchronized (this) {
+                if (this.timeout != null) {
+                    this.timeout.cancel(false);
+                    this.timeout = null;
+                }
+            }
+            final Deadline deadline = this.callOptions.getDeadline();
+            if (deadline != null) {
+                this.schedule(
+                        this::deadlineExceeded,
+                        Math.max(0L, deadline.timeRemaining(TimeUnit.NANOSECONDS))
+                    );
+            }
+        }
+
+        private void schedule(final Runnable task, final long delayNanos) {
+            try {
+                final ScheduledFuture<?> timeout = ConcurrencyLimiter.this.scheduler.get()
+                    .schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+                synchronized (this) {
+                    if (this.closed) {
+                        timeout.cancel(false);
+                    } else {
+                        this.timeout = timeout;
+                    }
+                }
+            } catch (final RejectedExecutionException ignored) {}
+        }
+
+        private void deadlineExceeded() {
+            if (!this.group.remove(this) && !this.following) {
+                return;
+            }
+            this.close(
+                    Status.DEADLINE_EXCEEDED.withDescription(
+                        "Deadline exceeded while waiting for the concurrency limit of " +
+                        this.group.group
+                    )
+                );
+        }
+
+        private void close(final Status status) {
+            this.close(status, new Metadata());
+        }
+
+        private void close(final Status status, final Metadata trailers) {
+            if (this.markClosed()) {
+                this.notifyClosed(status, trailers);
+            }
+        }
+
+        private synchronized boolean markClosed() {
+            if (this.delegate != null || this.closed) {
+                return false;
+            }
+            this.closed = true;
+            if (this.timeout != null) {
+                this.timeout.cancel(false);
+            }
+            return true;
+        }
+
+        private void notifyClosed(final Status status, final Metadata trailers) {
+            this.context.removeListener(this);
+            this.tasks.add(() -> this.listener.onClose(status, trailers));
+            this.execute();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void followMessage(final Object message) {
+            this.followTask(() -> this.listener.onMessage((RespT) message));
+        }
+
+        private void followHeaders(final Metadata headers) {
+            this.followTask(() -> this.listener.onHeaders(headers));
+        }
+
+        private void followTask(final Runnable task) {
+            synchronized (this) {
+                if (this.closed) {
+                    return;
+                }
+                this.tasks.add(task);
+            }
+            this.execute();
+        }
+
+        private void execute() {
+            if (this.pendingTasks.getAndIncrement() != 0) {
+                return;
+            }
+            final Executor executor = this.callOptions.getExecutor();
+            if (executor == null) {
+                this.runTasks();
+                return;
+            }
+            try {
+                executor.execute(this::runTasks);
+            } catch (final RejectedExecutionException e) {
+                this.runTasks();
+            }
+        }
+
+        private void runTasks() {
+            do {
+                try {
+                    this.tasks.poll().run();
+                } catch (final RuntimeException ignored) {}
+            } while (this.pendingTasks.decrementAndGet() != 0);
+        }
+
+        private final class Releasing extends Listener<RespT> {
+
+            private final List<LimitedCall<?, ?>> followers;
+            private final long startNanos;
+
+            private Releasing(final List<LimitedCall<?, ?>> followers, final long startNanos) {
+                this.followers = followers;
+                this.startNanos = startNanos;
+            }
+
+            @Override
+            public void onHeaders(final Metadata headers) {
+                LimitedCall.this.listener.onHeaders(headers);
+                for (final LimitedCall<?, ?> follower : this.followers) {
+                    follower.followHeaders(headers);
+                }
+            }
+
+            @Override
+            public void onMessage(final RespT message) {
+                LimitedCall.this.listener.onMessage(message);
+                for (final LimitedCall<?, ?> follower : this.followers) {
+                    follower.followMessage(message);
+                }
+            }
+
+            @Override
+            public void onClose(final Status status, final Metadata trailers) {
+                LimitedCall.this.group.release(
+                        System.nanoTime() - this.startNanos,
+                        status.getCode()
+                    );
+                LimitedCall.this.listener.onClose(status, trailers);
+                for (final LimitedCall<?, ?> follower : this.followers) {
+                    follower.close(status, trailers);
+                }
+            }
+
+            @Override
+            public void onReady() {
+                LimitedCall.this.listener.onReady();
+            }
+        }
+    }
+}
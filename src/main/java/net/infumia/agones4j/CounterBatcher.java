@@ -0,0 +1,139 @@
+package net.infumia.agones4j;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Coalesces counter deltas per counter name and sends them as one update per flush window.
+ * <p>
+ * A counter that reaches the max pending deltas schedules a single early flush until that flush runs. Deltas added
+ * after {@link #close()} fail with {@link Status.Code#UNAVAILABLE}.
+ */
+final class CounterBatcher {
+
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+
+    private final Sender sender;
+    private final ScheduledExecutorService executor;
+    private final boolean ownsExecutor;
+    private final int maxPending;
+    private final ScheduledFuture<?> flushTask;
+    private volatile boolean closed;
+
+    CounterBatcher(
+        final Sender sender,
+        final ScheduledExecutorService executor,
+        final boolean ownsExecutor,
+        final long flushIntervalMillis,
+        final int maxPending
+    ) {
+        this.sender = sender;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.maxPending = maxPending;
+        this.flushTask = executor.scheduleAtFixedRate(
+            this::flushAll,
+            flushIntervalMillis,
+            flushIntervalMillis,
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    void add(final String name, final long diff, final StreamObserver<AgonesCounter> response) {
+        if (this.closed) {
+            response.onError(
+                Status.UNAVAILABLE.withDescription(
+                    "Counter batching is closed"
+                ).asRuntimeException()
+            );
+            return;
+        }
+        Pending pending = this.pending.get(name);
+        if (pending == null) {
+            pending = this.pending.computeIfAbsent(name, key -> new Pending());
+        }
+        pending.waiters.add(new Waiter(diff, response));
+        final int size = pending.size.incrementAndGet();
+        if (this.closed) {
+            this.flush(name, pending);
+            return;
+        }
+        if (size >= this.maxPending && pending.scheduled.compareAndSet(false, true)) {
+            final Pending full = pending;
+            try {
+                this.executor.execute(() -> {
+                    full.scheduled.set(false);
+                    this.flush(name, full);
+                });
+            } catch (final RejectedExecutionException e) {
+                full.scheduled.set(false);
+                this.flush(name, full);
+            }
+        }
+    }
+
+    void flushAll() {
+        for (final Map.Entry<String, Pending> entry : this.pending.entrySet()) {
+            this.flush(entry.getKey(), entry.getValue());
+        }
+    }
+
+    void close() {
+        this.closed = true;
+        this.flushTask.cancel(false);
+        this.flushAll();
+        if (this.ownsExecutor) {
+            this.executor.shutdown();
+        }
+    }
+
+    private void flush(final String name, final Pending pending) {
+        final List<StreamObserver<AgonesCounter>> responses = new ArrayList<>();
+        long diff = 0L;
+        Waiter waiter;
+        while ((waiter = pending.waiters.poll()) != null) {
+            responses.add(waiter.response);
+            diff += waiter.diff;
+        }
+        if (responses.isEmpty()) {
+            return;
+        }
+        pending.size.addAndGet(-responses.size());
+        this.sender.send(name, diff, Internal.observerFanout(responses));
+    }
+
+    @FunctionalInterface
+    interface Sender {
+        void send(String name, long diff, StreamObserver<AgonesCounter> response);
+    }
+
+    private static final class Pending {
+
+        private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+    }
+
+    private static final class Waiter {
+
+        private final long diff;
+        private final StreamObserver<AgonesCounter> response;
+
+        private Waiter(final long diff, final StreamObserver<AgonesCounter> response) {
+            this.diff = diff;
+            this.response = response;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package net.infumia.agones4j;
+
+import agones.dev.sdk.Sdk;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps counters and lists up to date from the watch stream and from the responses of this SDK.
+ * <p>
+ * Values written through this SDK win over watch snapshots until they become stale, since the watch stream lags behind
+ * the sidecar's own state.
+ */
+final class CountsAndListsCache {
+
+    private final Map<String, Entry<AgonesCounter>> counters = new ConcurrentHashMap<>();
+    private final Map<String, Entry<AgonesList>> lists = new ConcurrentHashMap<>();
+
+    private final long maxStalenessNanos;
+
+    CountsAndListsCache(final long maxStalenessNanos) {
+        this.maxStalenessNanos = maxStalenessNanos;
+    }
+
+    void update(final Sdk.GameServer gameServer) {
+        final long now = System.nanoTime();
+        final Sdk.GameServer.Status status = gameServer.getStatus();
+        final Map<String, Sdk.GameServer.Status.CounterStatus> counters = status.getCountersMap();
+        for (
+            final Map.Entry<String, Sdk.GameServer.Status.CounterStatus> entry : counters.entrySet()
+        ) {
+            final AgonesCounter counter = Internal.toCounter(entry.getKey(), entry.getValue());
+            this.putWatched(this.counters, entry.getKey(), counter, now);
+        }
+        this.removeUnwatched(this.counters, counters, now);
+        final Map<String, Sdk.GameServer.Status.ListStatus> lists = status.getListsMap();
+        for (final Map.Entry<String, Sdk.GameServer.Status.ListStatus> entry : lists.entrySet()) {
+            final AgonesList list = Internal.toList(entry.getKey(), entry.getValue());
+            this.putWatched(this.lists, entry.getKey(), list, now);
+        }
+        this.removeUnwatched(this.lists, lists, now);
+    }
+
+    AgonesCounter counter(final String name) {
+        return this.fresh(this.counters.get(name));
+    }
+
+    AgonesCounter putCounter(final AgonesCounter counter) {
+        this.counters.put(counter.getName(), new Entry<>(counter, System.nanoTime(), true));
+        return counter;
+    }
+
+    AgonesList list(final String name) {
+        return this.fresh(this.lists.get(name));
+    }
+
+    AgonesList putList(final AgonesList list) {
+        this.lists.put(list.getName(), new Entry<>(list, System.nanoTime(), true));
+        return list;
+    }
+
+    private <T> T fresh(final Entry<T> entry) {
+        if (entry == null || System.nanoTime() - entry.receivedAt > this.maxStalenessNanos) {
+            return null;
+        }
+        return entry.value;
+    }
+
+    private <T> void putWatched(
+        final Map<String, Entry<T>> entries,
+        final String name,
+        final T value,
+        final long now
+    ) {
+        final Entry<T> current = entries.get(name);
+        if (this.isRecentLocal(current, now)) {
+            return;
+        }
+        entries.put(name, new Entry<>(value, now, false));
+    }
+
+    private <T> void removeUnwatched(
+        final Map<String, Entry<T>> entries,
+        final Map<String, ?> watched,
+        final long now
+    ) {
+        entries
+            .entrySet()
+            .removeIf(
+                entry ->
+                    !watched.containsKey(entry.getKey()) &&
+                    !this.isRecentLocal(entry.getValue(), now)
+            );
+    }
+
+    private boolean isRecentLocal(final Entry<?> entry, final long now) {
+        return entry != null && entry.local && now - entry.receivedAt <= this.maxStalenessNanos;
+    }
+
+    private static final class Entry<T> {
+
+        private final T value;
+        private final long receivedAt;
+        private final boolean local;
+
+        private Entry(final T value, final long receivedAt, final boolean local) {
+            this.value = value;
+            this.receivedAt = receivedAt;
+            this.local = local;
+        }
+    }
+}
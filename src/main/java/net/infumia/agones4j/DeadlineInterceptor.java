@@ -0,0 +1,104 @@
+package net.infumia.agones4j;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.Deadline;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Applies the deadline of the method group to every unary call and counts the calls that time out.
+ */
+final class DeadlineInterceptor implements ClientInterceptor {
+
+    private final Map<String, AtomicLong> timeouts = new ConcurrentHashMap<>();
+    private final DeadlinePolicy policy;
+
+    DeadlineInterceptor(final DeadlinePolicy policy) {
+        this.policy = policy;
+    }
+
+    Map<String, Long> timeouts() {
+        final Map<String, Long> timeouts = new TreeMap<>();
+        for (final Map.Entry<String, AtomicLong> entry : this.timeouts.entrySet()) {
+            timeouts.put(entry.getKey(), entry.getValue().get());
+        }
+        return timeouts;
+    }
+
+    long deadlineNanos(final MethodGroup group) {
+        return this.policy.deadlineNanos(group);
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+        final MethodDescriptor<ReqT, RespT> method,
+        final CallOptions callOptions,
+        final Channel next
+    ) {
+        final MethodGroup group = MethodGroup.of(method);
+        final long deadlineNanos = group == null ? 0L : this.policy.deadlineNanos(group);
+        if (deadlineNanos == 0L) {
+            return next.newCall(method, callOptions);
+        }
+        final Deadline deadline = Deadline.after(deadlineNanos, TimeUnit.NANOSECONDS);
+        final Deadline current = callOptions.getDeadline();
+        final CallOptions options = current == null || deadline.isBefore(current)
+            ? callOptions.withDeadline(deadline)
+            : callOptions;
+        return new Call<>(method.getFullMethodName(), next.newCall(method, options));
+    }
+
+    private void timedOut(final String method) {
+        AtomicLong timeouts = this.timeouts.get(method);
+        if (timeouts == null) {
+            timeouts = this.timeouts.computeIfAbsent(method, key -> new AtomicLong());
+        }
+        timeouts.incrementAndGet();
+    }
+
+    private final class Call<ReqT, RespT>
+        extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+
+        private final String method;
+
+        private Call(final String method, final ClientCall<ReqT, RespT> delegate) {
+            super(delegate);
+            this.method = method;
+        }
+
+        @Override
+        public void start(final Listener<RespT> responseListener, final Metadata headers) {
+            super.start(new Closing<>(this.method, responseListener), headers);
+        }
+    }
+
+    private final class Closing<RespT>
+        extends ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT> {
+
+        private final String method;
+
+        private Closing(final String method, final ClientCall.Listener<RespT> delegate) {
+            super(delegate);
+            this.method = method;
+        }
+
+        @Override
+        public void onClose(final Status status, final Metadata trailers) {
+            if (status.getCode() == Status.Code.DEADLINE_EXCEEDED) {
+                DeadlineInterceptor.this.timedOut(this.method);
+            }
+            super.onClose(status, trailers);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package net.infumia.agones4j;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Represents the deadlines applied to the calls of each {@link MethodGroup}.
+ * <p>
+ * A deadline is measured from the start of each call. Calls that already have a deadline, e.g. through
+ * {@link Agones#withDeadline(Duration, java.util.function.Supplier)} or {@link AgonesBlocking#withDeadline(Duration)},
+ * keep the earlier of the two.
+ */
+public final class DeadlinePolicy {
+
+    private static final DeadlinePolicy NONE = new DeadlinePolicy(
+        new long[MethodGroup.values().length]
+    );
+
+    private static final DeadlinePolicy DEFAULTS = DeadlinePolicy.NONE
+        .with(MethodGroup.LIFECYCLE, Duration.ofSeconds(10L))
+        .with(MethodGroup.METADATA, Duration.ofSeconds(5L))
+        .with(MethodGroup.PLAYER_TRACKING, Duration.ofSeconds(5L))
+        .with(MethodGroup.COUNTERS_AND_LISTS, Duration.ofSeconds(2L));
+
+    private final long[] deadlineNanos;
+
+    private DeadlinePolicy(final long[] deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Retrieves the policy without deadlines.
+     *
+     * @return The policy without deadlines.
+     */
+    public static DeadlinePolicy none() {
+        return DeadlinePolicy.NONE;
+    }
+
+    /**
+     * Retrieves the default policy.
+     * <p>
+     * Lifecycle calls have 10 seconds, metadata and player tracking calls have 5 seconds, and counter and list calls
+     * have 2 seconds.
+     *
+     * @return The default policy.
+     */
+    public static DeadlinePolicy defaults() {
+        return DeadlinePolicy.DEFAULTS;
+    }
+
+    /**
+     * Creates a copy of the policy with the deadline of the group.
+     *
+     * @param group the group to set.
+     * @param deadline the deadline of the calls of the group. {@code null} to remove it.
+     *
+     * @return A new policy with the deadline.
+     */
+    public DeadlinePolicy with(final MethodGroup group, final Duration deadline) {
+        Objects.requireNonNull(group, "group");
+        if (deadline != null && (deadline.isNegative() || deadline.isZero())) {
+            throw new IllegalArgumentException("Deadline must be positive!");
+        }
+        final long[] deadlineNanos = this.deadlineNanos.clone();
+        deadlineNanos[group.ordinal()] = deadline == null ? 0L : deadline.toNanos();
+        return new DeadlinePolicy(deadlineNanos);
+    }
+
+    /**
+     * Retrieves the deadline of the group.
+     *
+     * @param group the group to get.
+     *
+     * @return the deadline of the group, or {@code null} if the group has no deadline.
+     */
+    public Duration get(final MethodGroup group) {
+        final long nanos = this.deadlineNanos(group);
+        return nanos == 0L ? null : Duration.ofNanos(nanos);
+    }
+
+    /**
+     * Checks if the policy has no deadlines.
+     *
+     * @return {@code true} if no group has a deadline, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        for (final long nanos : this.deadlineNanos) {
+            if (nanos != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long deadlineNanos(final MethodGroup group) {
+        return this.deadlineNanos[group.ordinal()];
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || this.getClass() != obj.getClass()) {
+            return false;
+        }
+        final DeadlinePolicy that = (DeadlinePolicy) obj;
+        return Arrays.equals(this.deadlineNanos, that.deadlineNanos);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.deadlineNanos);
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner joiner = new StringJoiner(
+            ", ",
+            DeadlinePolicy.class.getSimpleName() + "[",
+            "]"
+        );
+        for (final MethodGroup group : MethodGroup.values()) {
+            joiner.add(group + "=" + this.get(group));
+        }
+        return joiner.toString();
+    }
+}
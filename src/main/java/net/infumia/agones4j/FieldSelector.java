@@ -0,0 +1,193 @@
+package net.infumia.agones4j;
+
+import agones.dev.sdk.Sdk;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Message;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Selects the values of field paths from a game server.
+ * <p>
+ * Paths use the proto field names, e.g. {@code status.state}, and map values can be selected by key, e.g.
+ * {@code object_meta.labels["mode"]}. Paths are resolved against the game server descriptor once, so a selection only
+ * walks the resolved fields.
+ */
+final class FieldSelector {
+
+    private final Step[][] paths;
+
+    private FieldSelector(final Step[][] paths) {
+        this.paths = paths;
+    }
+
+    static FieldSelector compile(final Collection<String> paths) {
+        Objects.requireNonNull(paths, "paths");
+        if (paths.isEmpty()) {
+            throw new IllegalArgumentException("Field paths must not be empty!");
+        }
+        final Step[][] compiled = new Step[paths.size()][];
+        int index = 0;
+        for (final String path : paths) {
+            compiled[index++] = FieldSelector.compile(path);
+        }
+        return new FieldSelector(compiled);
+    }
+
+    Object[] select(final Sdk.GameServer gameServer) {
+        final Object[] values = new Object[this.paths.length];
+        for (int i = 0; i < this.paths.length; i++) {
+            values[i] = FieldSelector.select(gameServer, this.paths[i]);
+        }
+        return values;
+    }
+
+    /**
+     * Creates a filter that passes a game server only if the selected values differ from the last passed one.
+     * <p>
+     * Filters are not thread-safe, updates are expected to be filtered one at a time.
+     *
+     * @return A new filter.
+     */
+    Filter filter() {
+        return new Filter();
+    }
+
+    private static Object select(final Message message, final Step[] steps) {
+        Object value = message;
+        for (final Step step : steps) {
+            if (!(value instanceof Message)) {
+                return null;
+            }
+            value = step.get((Message) value);
+        }
+        return value;
+    }
+
+    private static Step[] compile(final String path) {
+        Objects.requireNonNull(path, "path");
+        final List<Step> steps = new ArrayList<>();
+        Descriptors.Descriptor descriptor = Sdk.GameServer.getDescriptor();
+        int position = 0;
+        while (position < path.length()) {
+            if (descriptor == null) {
+                throw new IllegalArgumentException("Field path goes past a scalar field: " + path);
+            }
+            int end = position;
+            while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                end++;
+            }
+            final String name = path.substring(position, end);
+            final Descriptors.FieldDescriptor field = descriptor.findFieldByName(name);
+            if (field == null) {
+                throw new IllegalArgumentException(
+                    "Unknown field '" + name + "' in field path: " + path
+                );
+            }
+            String key = null;
+            if (end < path.length() && path.charAt(end) == '[') {
+                if (!field.isMapField()) {
+                    throw new IllegalArgumentException(
+                        "Field '" + name + "' is not a map in field path: " + path
+                    );
+                }
+                final int close = path.indexOf(']', end);
+                if (close < 0) {
+                    throw new IllegalArgumentException("Unclosed map key in field path: " + path);
+                }
+                key = FieldSelector.unquote(path.substring(end + 1, close));
+                end = close + 1;
+            }
+            final Step step = new Step(field, key);
+            steps.add(step);
+            descriptor = step.valueType();
+            if (end < path.length()) {
+                if (path.charAt(end) != '.') {
+                    throw new IllegalArgumentException("Invalid field path: " + path);
+                }
+                end++;
+                if (end == path.length()) {
+                    throw new IllegalArgumentException("Invalid field path: " + path);
+                }
+            }
+            position = end;
+        }
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException("Field path must not be empty!");
+        }
+        return steps.toArray(new Step[0]);
+    }
+
+    private static String unquote(final String key) {
+        if (key.length() >= 2 && key.charAt(0) == '"' && key.charAt(key.length() - 1) == '"') {
+            return key.substring(1, key.length() - 1);
+        }
+        return key;
+    }
+
+    final class Filter {
+
+        private Object[] last;
+
+        private Filter() {}
+
+        boolean changed(final Sdk.GameServer gameServer) {
+            final Object[] values = FieldSelector.this.select(gameServer);
+            if (this.last != null && Arrays.equals(this.last, values)) {
+                return false;
+            }
+            this.last = values;
+            return true;
+        }
+    }
+
+    private static final class Step {
+
+        private final Descriptors.FieldDescriptor field;
+        private final String key;
+        private final Descriptors.FieldDescriptor keyField;
+        private final Descriptors.FieldDescriptor valueField;
+
+        private Step(final Descriptors.FieldDescriptor field, final String key) {
+            this.field = field;
+            this.key = key;
+            if (key == null) {
+                this.keyField = null;
+                this.valueField = null;
+            } else {
+                this.keyField = field.getMessageType().findFieldByName("key");
+                this.valueField = field.getMessageType().findFieldByName("value");
+            }
+        }
+
+        private Descriptors.Descriptor valueType() {
+            if (this.key == null && this.field.isRepeated()) {
+                return null;
+            }
+            final Descriptors.FieldDescriptor type = this.key == null
+                ? this.field
+                : this.valueField;
+            if (type.getJavaType() != Descriptors.FieldDescriptor.JavaType.MESSAGE) {
+                return null;
+            }
+            return type.getMessageType();
+        }
+
+        private Object get(final Message message) {
+            final Object value = message.getField(this.field);
+            if (this.key == null) {
+                return value;
+            }
+            for (final Object entry : (List<?>) value) {
+                final Message mapEntry = (Message) entry;
+                if (this.key.equals(mapEntry.getField(this.keyField))) {
+                    return mapEntry.getField(this.valueField);
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package net.infumia.agones4j;
+
+import agones.dev.sdk.Sdk;
+
+/**
+ * Holds the latest {@link Sdk.GameServer} received from the watch stream or the {@code GetGameServer} call.
+ */
+final class GameServerCache {
+
+    private final long maxStalenessNanos;
+    private volatile Snapshot snapshot;
+
+    GameServerCache(final long maxStalenessNanos) {
+        this.maxStalenessNanos = maxStalenessNanos;
+    }
+
+    Sdk.GameServer update(final Sdk.GameServer gameServer) {
+        this.snapshot = new Snapshot(gameServer, System.nanoTime());
+        return gameServer;
+    }
+
+    Sdk.GameServer get() {
+        final Snapshot snapshot = this.snapshot;
+        if (snapshot == null || System.nanoTime() - snapshot.receivedAt > this.maxStalenessNanos) {
+            return null;
+        }
+        return snapshot.gameServer;
+    }
+
+    private static final class Snapshot {
+
+        private final Sdk.GameServer gameServer;
+        private final long receivedAt;
+
+        private Snapshot(final Sdk.GameServer gameServer, final long receivedAt) {
+            this.gameServer = gameServer;
+            this.receivedAt = receivedAt;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package net.infumia.agones4j;
+
+import agones.dev.sdk.Sdk;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Computes the {@link GameServerEvent}s between two game servers.
+ */
+final class GameServerDiff {
+
+    private GameServerDiff() {
+        throw new UnsupportedOperationException(
+            "This is a utility class and cannot be instantiated"
+        );
+    }
+
+    static List<GameServerEvent> diff(
+        final Sdk.GameServer previous,
+        final Sdk.GameServer current,
+        final Set<GameServerEvent.Kind> kinds
+    ) {
+        if (previous.equals(current)) {
+            return Collections.emptyList();
+        }
+        final List<GameServerEvent> events = new ArrayList<>();
+        final Sdk.GameServer.Status oldStatus = previous.getStatus();
+        final Sdk.GameServer.Status newStatus = current.getStatus();
+        if (
+            kinds.contains(GameServerEvent.Kind.STATE_CHANGED) &&
+            !oldStatus.getState().equals(newStatus.getState())
+        ) {
+            events.add(
+                new GameServerEvent.StateChanged(oldStatus.getState(), newStatus.getState())
+            );
+        }
+        if (kinds.contains(GameServerEvent.Kind.LABEL_CHANGED)) {
+            final Map<String, String> oldLabels = previous.getObjectMeta().getLabelsMap();
+            final Map<String, String> newLabels = current.getObjectMeta().getLabelsMap();
+            for (final String key : GameServerDiff.keys(oldLabels, newLabels)) {
+                final String oldValue = oldLabels.get(key);
+                final String newValue = newLabels.get(key);
+                if (!Objects.equals(oldValue, newValue)) {
+                    events.add(new GameServerEvent.LabelChanged(key, oldValue, newValue));
+                }
+            }
+        }
+        if (kinds.contains(GameServerEvent.Kind.ANNOTATION_CHANGED)) {
+            final Map<String, String> oldAnnotations = previous.getObjectMeta().getAnnotationsMap();
+            final Map<String, String> newAnnotations = current.getObjectMeta().getAnnotationsMap();
+            for (final String key : GameServerDiff.keys(oldAnnotations, newAnnotations)) {
+                final String oldValue = oldAnnotations.get(key);
+                final String newValue = newAnnotations.get(key);
+                if (!Objects.equals(oldValue, newValue)) {
+                    events.add(new GameServerEvent.AnnotationChanged(key, oldValue, newValue));
+                }
+            }
+        }
+        if (kinds.contains(GameServerEvent.Kind.COUNTER_CHANGED)) {
+            final Map<String, Sdk.GameServer.Status.CounterStatus> oldCounters =
+                oldStatus.getCountersMap();
+            final Map<String, Sdk.GameServer.Status.CounterStatus> newCounters =
+                newStatus.getCountersMap();
+            for (final String name : GameServerDiff.keys(oldCounters, newCounters)) {
+                final Sdk.GameServer.Status.CounterStatus oldCounter = oldCounters.get(name);
+                final Sdk.GameServer.Status.CounterStatus newCounter = newCounters.get(name);
+                if (!Objects.equals(oldCounter, newCounter)) {
+                    events.add(
+                        new GameServerEvent.CounterChanged(
+                            name,
+                            oldCounter == null ? null : Internal.toCounter(name, oldCounter),
+                            newCounter == null ? null : Internal.toCounter(name, newCounter)
+                        )
+                    );
+                }
+            }
+        }
+        if (
+            kinds.contains(GameServerEvent.Kind.LIST_VALUES_ADDED) ||
+            kinds.contains(GameServerEvent.Kind.LIST_VALUES_REMOVED)
+        ) {
+            final Map<String, Sdk.GameServer.Status.ListStatus> oldLists = oldStatus.getListsMap();
+            final Map<String, Sdk.GameServer.Status.ListStatus> newLists = newStatus.getListsMap();
+            for (final String name : GameServerDiff.keys(oldLists, newLists)) {
+                final Sdk.GameServer.Status.ListStatus oldList = oldLists.get(name);
+                final Sdk.GameServer.Status.ListStatus newList = newLists.get(name);
+                final List<String> oldValues = oldList == null
+                    ? Collections.emptyList()
+                    : oldList.getValuesList();
+                final List<String> newValues = newList == null
+                    ? Collections.emptyList()
+                    : newList.getValuesList();
+                if (kinds.contains(GameServerEvent.Kind.LIST_VALUES_ADDED)) {
+                    final List<String> added = GameServerDiff.missing(newValues, oldValues);
+                    if (!added.isEmpty()) {
+                        events.add(new GameServerEvent.ListValuesAdded(name, added));
+                    }
+                }
+                if (kinds.contains(GameServerEvent.Kind.LIST_VALUES_REMOVED)) {
+                    final List<String> removed = GameServerDiff.missing(oldValues, newValues);
+                    if (!removed.isEmpty()) {
+                        events.add(new GameServerEvent.ListValuesRemoved(name, removed));
+                    }
+                }
+            }
+        }
+        if (
+            kinds.contains(GameServerEvent.Kind.PLAYERS_JOINED) ||
+            kinds.contains(GameServerEvent.Kind.PLAYERS_LEFT)
+        ) {
+            final List<String> oldPlayers = oldStatus.getPlayers().getIdsList();
+            final List<String> newPlayers = newStatus.getPlayers().getIdsList();
+            if (kinds.contains(GameServerEvent.Kind.PLAYERS_JOINED)) {
+                final List<String> joined = GameServerDiff.missing(newPlayers, oldPlayers);
+                if (!joined.isEmpty()) {
+                    events.add(new GameServerEvent.PlayersJoined(joined));
+                }
+            }
+            if (kinds.contains(GameServerEvent.Kind.PLAYERS_LEFT)) {
+                final List<String> left = GameServerDiff.missing(oldPlayers, newPlayers);
+                if (!left.isEmpty()) {
+                    events.add(new GameServerEvent.PlayersLeft(left));
+                }
+            }
+        }
+        return events;
+    }
+
+    private static Set<String> keys(final Map<String, ?> first, final Map<String, ?> second) {
+        final Set<String> keys = new LinkedHashSet<>(first.keySet());
+        keys.addAll(second.keySet());
+        return keys;
+    }
+
+    private static List<String> missing(final List<String> values, final Collection<String> from) {
+        if (from.isEmpty()) {
+            return new ArrayList<>(values);
+        }
+        final Set<String> lookup = new HashSet<>(from);
+        final List<String> missing = new ArrayList<>();
+        for (final String value : values) {
+            if (!lookup.contains(value)) {
+                missing.add(value);
+            }
+        }
+        return missing;
+    }
+}
@@ -0,0 +1,657 @@
+package net.infumia.agones4j;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Represents a change of the game server between two updates of the watch stream.
+ * <p>
+ * The change is computed once per update and delivered to every listener registered for its kind.
+ */
+public abstract class GameServerEvent {
+
+    GameServerEvent() {}
+
+    /**
+     * Retrieves the kind of the event.
+     *
+     * @return the kind.
+     */
+    public abstract Kind getKind();
+
+    /**
+     * Represents the kinds of game server events.
+     */
+    public enum Kind {
+        /**
+         * See {@link StateChanged}.
+         */
+        STATE_CHANGED(StateChanged.class),
+        /**
+         * See {@link LabelChanged}.
+         */
+        LABEL_CHANGED(LabelChanged.class),
+        /**
+         * See {@link AnnotationChanged}.
+         */
+        ANNOTATION_CHANGED(AnnotationChanged.class),
+        /**
+         * See {@link CounterChanged}.
+         */
+        COUNTER_CHANGED(CounterChanged.class),
+        /**
+         * See {@link ListValuesAdded}.
+         */
+        LIST_VALUES_ADDED(ListValuesAdded.class),
+        /**
+         * See {@link ListValuesRemoved}.
+         */
+        LIST_VALUES_REMOVED(ListValuesRemoved.class),
+        /**
+         * See {@link PlayersJoined}.
+         */
+        PLAYERS_JOINED(PlayersJoined.class),
+        /**
+         * See {@link PlayersLeft}.
+         */
+        PLAYERS_LEFT(PlayersLeft.class),
+        /**
+         * See {@link Resynced}.
+         */
+        RESYNCED(Resynced.class);
+
+        private final Class<? extends GameServerEvent> type;
+
+        Kind(final Class<? extends GameServerEvent> type) {
+            this.type = type;
+        }
+
+        /**
+         * Retrieves the event type of the kind.
+         *
+         * @return the event type.
+         */
+        public Class<? extends GameServerEvent> getType() {
+            return this.type;
+        }
+    }
+
+    /**
+     * Fired when the game server state changes.
+     */
+    public static final class StateChanged extends GameServerEvent {
+
+        private final String from;
+        private final String to;
+
+        StateChanged(final String from, final String to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Kind getKind() {
+            return Kind.STATE_CHANGED;
+        }
+
+        /**
+         * Retrieves the previous state.
+         *
+         * @return the previous state.
+         */
+        public String getFrom() {
+            return this.from;
+        }
+
+        /**
+         * Retrieves the new state.
+         *
+         * @return the new state.
+         */
+        public String getTo() {
+            return this.to;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || this.getClass() != obj.getClass()) {
+                return false;
+            }
+            final StateChanged that = (StateChanged) obj;
+            return Objects.equals(this.from, that.from) && Objects.equals(this.to, that.to);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.from, this.to);
+        }
+
+        @Override
+        public String toString() {
+            return new StringJoiner(", ", StateChanged.class.getSimpleName() + "[", "]")
+                .add("from='" + this.from + "'")
+                .add("to='" + this.to + "'")
+                .toString();
+        }
+    }
+
+    /**
+     * Fired when a label is added, changed or removed.
+     */
+    public static final class LabelChanged extends GameServerEvent {
+
+        private final String key;
+        private final String oldValue;
+        private final String newValue;
+
+        LabelChanged(final String key, final String oldValue, final String newValue) {
+            this.key = key;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+        }
+
+        @Override
+        public Kind getKind() {
+            return Kind.LABEL_CHANGED;
+        }
+
+        /**
+         * Retrieves the label key.
+         *
+         * @return the label key.
+         */
+        public String getKey() {
+            return this.key;
+        }
+
+        /**
+         * Retrieves the previous value, {@code null} if the label was added.
+         *
+         * @return the previous value, {@code null} if the label was added.
+         */
+        public String getOldValue() {
+            return this.oldValue;
+        }
+
+        /**
+         * Retrieves the new value, {@code null} if the label was removed.
+         *
+         * @return the new value, {@code null} if the label was removed.
+         */
+        public String getNewValue() {
+            return this.newValue;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || this.getClass() != obj.getClass()) {
+                return false;
+            }
+            final LabelChanged that = (LabelChanged) obj;
+            return (
+                Objects.equals(this.key, that.key) &&
+                Objects.equals(this.oldValue, that.oldValue) &&
+                Objects.equals(this.newValue, that.newValue)
+            );
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.key, this.oldValue, this.newValue);
+        }
+
+        @Override
+        public String toString() {
+            return new StringJoiner(", ", LabelChanged.class.getSimpleName() + "[", "]")
+                .add("key='" + this.key + "'")
+                .add("oldValue='" + this.oldValue + "'")
+                .add("newValue='" + this.newValue + "'")
+                .toString();
+        }
+    }
+
+    /**
+     * Fired when an annotation is added, changed or removed.
+     */
+    public static final class AnnotationChanged extends GameServerEvent {
+
+        private final String key;
+        private final String oldValue;
+        private final String newValue;
+
+        AnnotationChanged(final String key, final String oldValue, final String newValue) {
+            this.key = key;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+        }
+
+        @Override
+        public Kind getKind() {
+            return Kind.ANNOTATION_CHANGED;
+        }
+
+        /**
+         * Retrieves the annotation key.
+         *
+         * @return the annotation key.
+         */
+        public String getKey() {
+            return this.key;
+        }
+
+        /**
+         * Retrieves the previous value, {@code null} if the annotation was added.
+         *
+         * @return the previous value, {@code null} if the annotation was added.
+         */
+        public String getOldValue() {
+            return this.oldValue;
+        }
+
+        /**
+         * Retrieves the new value, {@code null} if the annotation was removed.
+         *
+         * @return the new value, {@code null} if the annotation was removed.
+         */
+        public String getNewValue() {
+            return this.newValue;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || this.getClass() != obj.getClass()) {
+                return false;
+            }
+            final AnnotationChanged that = (AnnotationChanged) obj;
+            return (
+                Objects.equals(this.key, that.key) &&
+                Objects.equals(this.oldValue, that.oldValue) &&
+                Objects.equals(this.newValue, that.newValue)
+            );
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.key, this.oldValue, this.newValue);
+        }
+
+        @Override
+        public String toString() {
+            return new StringJoiner(", ", AnnotationChanged.class.getSimpleName() + "[", "]")
+                .add("key='" + this.key + "'")
+                .add("oldValue='" + this.oldValue + "'")
+                .add("newValue='" + this.newValue + "'")
+                .toString();
+        }
+    }
+
+    /**
+     * Fired when a counter is added, changed or removed.
+     */
+    public static final class CounterChanged extends GameServerEvent {
+
+        private final String name;
+        private final AgonesCounter oldCounter;
+        private final AgonesCounter newCounter;
+
+        CounterChanged(
+            final String name,
+            final AgonesCounter oldCounter,
+            final AgonesCounter newCounter
+        ) {
+            this.name = name;
+            this.oldCounter = oldCounter;
+            this.newCounter = newCounter;
+        }
+
+        @Override
+        public Kind getKind() {
+            return Kind.COUNTER_CHANGED;
+        }
+
+        /**
+         * Retrieves the counter name.
+         *
+         * @return the counter name.
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Retrieves the previous counter, {@code null} if the counter was added.
+         *
+         * @return the previous counter, {@code null} if the counter was added.
+         */
+        public AgonesCounter getOldCounter() {
+            return this.oldCounter;
+        }
+
+        /**
+         * Retrieves the new counter, {@code null} if the counter was removed.
+         *
+         * @return the new counter, {@code null} if the counter was removed.
+         */
+        public AgonesCounter getNewCounter() {
+            return this.newCounter;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || this.getClass() != obj.getClass()) {
+                return false;
+            }
+            final CounterChanged that = (CounterChanged) obj;
+            return (
+                Objects.equals(this.name, that.name) &&
+                Objects.equals(this.oldCounter, that.oldCounter) &&
+                Objects.equals(this.newCounter, that.newCounter)
+            );
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.name, this.oldCounter, this.newCounter);
+        }
+
+        @Override
+        public String toString() {
+            return new StringJoiner(", ", CounterChanged.class.getSimpleName() + "[", "]")
+                .add("name='" + this.name + "'")
+                .add("oldCounter=" + this.oldCounter)
+                .add("newCounter=" + this.newCounter)
+                .toString();
+        }
+    }
+
+    /**
+     * Fired when values are added to a list.
+     */
+    public static final class ListValuesAdded extends GameServerEvent {
+
+        private final String name;
+        private final List<String> values;
+
+        ListValuesAdded(final String name, final List<String> values) {
+            this.name = name;
+            this.values = Collections.unmodifiableList(values);
+        }
+
+        @Override
+        public Kind getKind() {
+            return Kind.LIST_VALUES_ADDED;
+        }
+
+        /**
+         * Retrieves the list name.
+         *
+         * @return the list name.
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Retrieves the added values.
+         *
+         * @return the added values.
+         */
+        public List<String> getValues() {
+            return this.values;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || this.getClass() != obj.getClass()) {
+                return false;
+            }
+            final ListValuesAdded that = (ListValuesAdded) obj;
+            return Objects.equals(this.name, that.name) && Objects.equals(this.values, that.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.name, this.values);
+        }
+
+        @Override
+        public String toString() {
+            return new StringJoiner(", ", ListValuesAdded.class.getSimpleName() + "[", "]")
+                .add("name='" + this.name + "'")
+                .add("values=" + this.values)
+                .toString();
+        }
+    }
+
+    /**
+     * Fired when values are removed from a list.
+     */
+    public static final class ListValuesRemoved extends GameServerEvent {
+
+        private final String name;
+        private final List<String> values;
+
+        ListValuesRemoved(final String name, final List<String> values) {
+            this.name = name;
+            this.values = Collections.unmodifiableList(values);
+        }
+
+        @Override
+        public Kind getKind() {
+            return Kind.LIST_VALUES_REMOVED;
+        }
+
+        /**
+         * Retrieves the list name.
+         *
+         * @return the list name.
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Retrieves the removed values.
+         *
+         * @return the removed values.
+         */
+        public List<String> getValues() {
+            return this.values;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || this.getClass() != obj.getClass()) {
+                return false;
+            }
+            final ListValuesRemoved that = (ListValuesRemoved) obj;
+            return Objects.equals(this.name, that.name) && Objects.equals(this.values, that.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.name, this.values);
+        }
+
+        @Override
+        public String toString() {
+            return new StringJoiner(", ", ListValuesRemoved.class.getSimpleName() + "[", "]")
+                .add("name='" + this.name + "'")
+                .add("values=" + this.values)
+                .toString();
+        }
+    }
+
+    /**
+     * Fired when players connect to the game server.
+     */
+    public static final class PlayersJoined extends GameServerEvent {
+
+        private final List<String> playerIds;
+
+        PlayersJoined(final List<String> playerIds) {
+            this.playerIds = Collections.unmodifiableList(playerIds);
+        }
+
+        @Override
+        public Kind getKind() {
+            return Kind.PLAYERS_JOINED;
+        }
+
+        /**
+         * Retrieves the ids of the joined players.
+         *
+         * @return the ids of the joined players.
+         */
+        public List<String> getPlayerIds() {
+            return this.playerIds;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || this.getClass() != obj.getClass()) {
+                return false;
+            }
+            final PlayersJoined that = (PlayersJoined) obj;
+            return Objects.equals(this.playerIds, that.playerIds);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.playerIds);
+        }
+
+        @Override
+        public String toString() {
+            return new StringJoiner(", ", PlayersJoined.class.getSimpleName() + "[", "]")
+                .add("playerIds=" + this.playerIds)
+                .toString();
+        }
+    }
+
+    /**
+     * Fired when players disconnect from the game server.
+     */
+    public static final class PlayersLeft extends GameServerEvent {
+
+        private final List<String> playerIds;
+
+        PlayersLeft(final List<String> playerIds) {
+            this.playerIds = Collections.unmodifiableList(playerIds);
+        }
+
+        @Override
+        public Kind getKind() {
+            return Kind.PLAYERS_LEFT;
+        }
+
+        /**
+         * Retrieves the ids of the left players.
+         *
+         * @return the ids of the left players.
+         */
+        public List<String> getPlayerIds() {
+            return this.playerIds;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || this.getClass() != obj.getClass()) {
+                return false;
+            }
+            final PlayersLeft that = (PlayersLeft) obj;
+            return Objects.equals(this.playerIds, that.playerIds);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.playerIds);
+        }
+
+        @Override
+        public String toString() {
+            return new StringJoiner(", ", PlayersLeft.class.getSimpleName() + "[", "]")
+                .add("playerIds=" + this.playerIds)
+                .toString();
+        }
+    }
+
+    /**
+     * Fired when the watch stream is reopened after it broke, right before the events of the first game server after
+     * the gap.
+     * <p>
+     * Changes that happened during the gap are only seen as the difference to the last game server before the gap.
+     */
+    public static final class Resynced extends GameServerEvent {
+
+        private final long gapNanos;
+
+        Resynced(final long gapNanos) {
+            this.gapNanos = gapNanos;
+        }
+
+        @Override
+        public Kind getKind() {
+            return Kind.RESYNCED;
+        }
+
+        /**
+         * Retrieves the time between the stream breaking and the first game server after it was reopened.
+         *
+         * @return the gap in nanoseconds.
+         */
+        public long getGapNanos() {
+            return this.gapNanos;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || this.getClass() != obj.getClass()) {
+                return false;
+            }
+            final Resynced that = (Resynced) obj;
+            return Objects.equals(this.gapNanos, that.gapNanos);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.gapNanos);
+        }
+
+        @Override
+        public String toString() {
+            return new StringJoiner(", ", Resynced.class.getSimpleName() + "[", "]")
+                .add("gapNanos=" + this.gapNanos)
+                .toString();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package net.infumia.agones4j;
+
+import agones.dev.sdk.Sdk;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Turns game server updates into {@link GameServerEvent}s and delivers them to listeners.
+ * <p>
+ * The diff is computed once per update, only for the kinds that have listeners. Unlike game server watchers, events
+ * are never dropped: each listener receives its events in order, serially on the executor.
+ */
+final class GameServerEvents {
+
+    private final Map<GameServerEvent.Kind, List<Listener>> listeners = new ConcurrentHashMap<>();
+    private final AtomicReference<Sdk.GameServer> previous = new AtomicReference<>();
+    private final Executor executor;
+    private volatile Set<GameServerEvent.Kind> kinds = EnumSet.noneOf(GameServerEvent.Kind.class);
+
+    GameServerEvents(final Executor executor) {
+        this.executor = executor;
+    }
+
+    synchronized void add(
+        final Set<GameServerEvent.Kind> kinds,
+        final Consumer<GameServerEvent> listener
+    ) {
+        final Listener registered = new Listener(listener);
+        for (final GameServerEvent.Kind kind : kinds) {
+            this.listeners
+                .computeIfAbsent(kind, key -> new CopyOnWriteArrayList<>())
+                .add(registered);
+        }
+        this.kinds = EnumSet.copyOf(this.listeners.keySet());
+    }
+
+    void resynced(final long gapNanos) {
+        final List<Listener> listeners = this.listeners.get(GameServerEvent.Kind.RESYNCED);
+        if (listeners != null) {
+            final GameServerEvent event = new GameServerEvent.Resynced(gapNanos);
+            for (final Listener listener : listeners) {
+                listener.offer(event);
+            }
+        }
+    }
+
+    void update(final Sdk.GameServer gameServer) {
+        final Sdk.GameServer previous = this.previous.getAndSet(gameServer);
+        final Set<GameServerEvent.Kind> kinds = this.kinds;
+        if (kinds.isEmpty()) {
+            return;
+        }
+        final List<GameServerEvent> events = GameServerDiff.diff(
+            previous == null ? Sdk.GameServer.getDefaultInstance() : previous,
+            gameServer,
+            kinds
+        );
+        for (final GameServerEvent event : events) {
+            final List<Listener> listeners = this.listeners.get(event.getKind());
+            if (listeners != null) {
+                for (final Listener listener : listeners) {
+                    listener.offer(event);
+                }
+            }
+        }
+    }
+
+    private final class Listener implements Runnable {
+
+        private final Consumer<GameServerEvent> listener;
+        private final Queue<GameServerEvent> events = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Listener(final Consumer<GameServerEvent> listener) {
+            this.listener = listener;
+        }
+
+        private void offer(final GameServerEvent event) {
+            this.events.add(event);
+            if (this.scheduled.compareAndSet(false, true)) {
+                GameServerEvents.this.executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                final GameServerEvent event = this.events.poll();
+                if (event == null) {
+                    this.scheduled.set(false);
+                    if (this.events.isEmpty() || !this.scheduled.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                try {
+                    this.listener.accept(event);
+                } catch (final RuntimeException e) {
+                    final Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            }
+        }
+    }
+}
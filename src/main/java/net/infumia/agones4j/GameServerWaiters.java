@@ -0,0 +1,142 @@
+package net.infumia.agones4j;
+
+import agones.dev.sdk.Sdk;
+import io.grpc.Status;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Completes futures waiting for a game server condition from the updates of the watch stream.
+ * <p>
+ * Waiters are indexed by the awaited state and by the predicate instance, so an update costs one lookup for state
+ * waiters and one predicate check per distinct predicate, no matter how many futures wait on them.
+ */
+final class GameServerWaiters {
+
+    private final Index<String> states = new Index<>();
+    private final Index<Predicate<Sdk.GameServer>> conditions = new Index<>();
+    private final Supplier<ScheduledExecutorService> scheduler;
+    private volatile Sdk.GameServer latest;
+
+    GameServerWaiters(final Supplier<ScheduledExecutorService> scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    CompletableFuture<Sdk.GameServer> awaitState(final String state, final Duration timeout) {
+        return this.states.add(state, timeout, gameServer ->
+            state.equals(gameServer.getStatus().getState())
+        );
+    }
+
+    CompletableFuture<Sdk.GameServer> awaitCondition(
+        final Predicate<Sdk.GameServer> condition,
+        final Duration timeout
+    ) {
+        return this.conditions.add(condition, timeout, condition);
+    }
+
+    void update(final Sdk.GameServer gameServer) {
+        this.latest = gameServer;
+        if (!this.states.waiters.isEmpty()) {
+            this.states.complete(gameServer.getStatus().getState(), gameServer);
+        }
+        if (!this.conditions.waiters.isEmpty()) {
+            for (final Predicate<Sdk.GameServer> condition : this.conditions.waiters.keySet()) {
+                final boolean matches;
+                try {
+                    matches = condition.test(gameServer);
+                } catch (final RuntimeException e) {
+                    this.conditions.fail(condition, e);
+                    continue;
+                }
+                if (matches) {
+                    this.conditions.complete(condition, gameServer);
+                }
+            }
+        }
+    }
+
+    private ScheduledFuture<?> timeout(
+        final CompletableFuture<Sdk.GameServer> future,
+        final Duration timeout
+    ) {
+        final Runnable expire = () ->
+            future.completeExceptionally(
+                Status.DEADLINE_EXCEEDED.withDescription(
+                    "Game server condition is not met in " + timeout
+                ).asRuntimeException()
+            );
+        return this.scheduler.get().schedule(expire, timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private final class Index<K> {
+
+        private final Map<K, List<CompletableFuture<Sdk.GameServer>>> waiters =
+            new ConcurrentHashMap<>();
+
+        private CompletableFuture<Sdk.GameServer> add(
+            final K key,
+            final Duration timeout,
+            final Predicate<Sdk.GameServer> condition
+        ) {
+            final CompletableFuture<Sdk.GameServer> future = new CompletableFuture<>();
+            this.waiters.compute(key, (k, futures) -> {
+                final List<CompletableFuture<Sdk.GameServer>> list = futures == null
+                    ? new ArrayList<>()
+                    : futures;
+                list.add(future);
+                return list;
+            });
+            final ScheduledFuture<?> timeoutTask = timeout == null
+                ? null
+                : GameServerWaiters.this.timeout(future, timeout);
+            future.whenComplete((gameServer, error) -> {
+                if (timeoutTask != null) {
+                    timeoutTask.cancel(false);
+                }
+                this.waiters.computeIfPresent(key, (k, futures) -> {
+                    futures.remove(future);
+                    return futures.isEmpty() ? null : futures;
+                });
+            });
+            final Sdk.GameServer latest = GameServerWaiters.this.latest;
+            if (latest != null) {
+                try {
+                    if (condition.test(latest)) {
+                        future.complete(latest);
+                    }
+                } catch (final RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+            return future;
+        }
+
+        private void complete(final K key, final Sdk.GameServer gameServer) {
+            final List<CompletableFuture<Sdk.GameServer>> futures = this.waiters.remove(key);
+            if (futures != null) {
+                for (final CompletableFuture<Sdk.GameServer> future : futures) {
+                    future.complete(gameServer);
+                }
+            }
+        }
+
+        private void fail(final K key, final Throwable error) {
+            final List<CompletableFuture<Sdk.GameServer>> futures = this.waiters.remove(key);
+            if (futures != null) {
+                for (final CompletableFuture<Sdk.GameServer> future : futures) {
+                    future.completeExceptionally(error);
+                }
+            }
+        }
+    }
+}
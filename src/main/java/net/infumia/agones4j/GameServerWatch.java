@@ -0,0 +1,178 @@
+package net.infumia.agones4j;
+
+import agones.dev.sdk.Sdk;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a single game server watch stream open and reopens it when it breaks.
+ * <p>
+ * A broken stream is reopened with an exponential, jittered backoff. The first game server after a gap is preceded by
+ * a resynced signal carrying the length of the gap. Game servers with the same resource version as the previous one
+ * are dropped, so the snapshot the sidecar sends on every reopen does not reach the consumers twice.
+ */
+final class GameServerWatch {
+
+    private final Consumer<StreamObserver<Sdk.GameServer>> opener;
+    private final Consumer<Sdk.GameServer> consumer;
+    private final LongConsumer resynced;
+    private final Supplier<ScheduledExecutorService> scheduler;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+
+    private final AtomicLong reconnects = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+
+    private ScheduledFuture<?> reconnectTask;
+    private ClientCallStreamObserver<Sdk.Empty> call;
+    private volatile long generation;
+    private volatile String resourceVersion;
+    private boolean started;
+    private boolean closed;
+    private long brokenAt;
+    private int attempts;
+
+    GameServerWatch(
+        final Consumer<StreamObserver<Sdk.GameServer>> opener,
+        final Consumer<Sdk.GameServer> consumer,
+        final LongConsumer resynced,
+        final Supplier<ScheduledExecutorService> scheduler,
+        final long initialBackoffNanos,
+        final long maxBackoffNanos
+    ) {
+        this.opener = opener;
+        this.consumer = consumer;
+        this.resynced = resynced;
+        this.scheduler = scheduler;
+        this.initialBackoffNanos = initialBackoffNanos;
+        this.maxBackoffNanos = maxBackoffNanos;
+    }
+
+    synchronized void start() {
+        if (this.started || this.closed) {
+            return;
+        }
+        this.started = true;
+        this.open();
+    }
+
+    synchronized void close() {
+        this.closed = true;
+        this.generation++;
+        if (this.reconnectTask != null) {
+            this.reconnectTask.cancel(false);
+            this.reconnectTask = null;
+        }
+        if (this.call != null) {
+            this.call.cancel("Game server watch is closed", null);
+            this.call = null;
+        }
+    }
+
+    long reconnects() {
+        return this.reconnects.get();
+    }
+
+    long duplicates() {
+        return this.duplicates.get();
+    }
+
+    private void open() {
+        final long generation = ++this.generation;
+        this.call = null;
+        this.opener.accept(new Response(generation));
+    }
+
+    private void received(final long generation, final Sdk.GameServer gameServer) {
+        final long gap;
+        synchronized (this) {
+            if (generation != this.generation) {
+                return;
+            }
+            gap = this.brokenAt == 0L ? 0L : System.nanoTime() - this.brokenAt;
+            this.brokenAt = 0L;
+            this.attempts = 0;
+        }
+        if (gap > 0L) {
+            this.resynced.accept(gap);
+        }
+        final String resourceVersion = gameServer.getObjectMeta().getResourceVersion();
+        if (!resourceVersion.isEmpty() && resourceVersion.equals(this.resourceVersion)) {
+            this.duplicates.incrementAndGet();
+            return;
+        }
+        this.resourceVersion = resourceVersion;
+        this.consumer.accept(gameServer);
+    }
+
+    private synchronized void broken(final long generation) {
+        if (generation != this.generation || this.closed) {
+            return;
+        }
+        this.generation++;
+        this.call = null;
+        if (this.brokenAt == 0L) {
+            this.brokenAt = System.nanoTime();
+        }
+        final long backoff = Math.min(
+            this.maxBackoffNanos,
+            this.initialBackoffNanos << Math.min(this.attempts, 30)
+        );
+        this.attempts++;
+        final long delay = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        this.reconnectTask = this.scheduler
+            .get()
+            .schedule(this::reconnect, delay, TimeUnit.NANOSECONDS);
+    }
+
+    private synchronized void reconnect() {
+        if (this.closed) {
+            return;
+        }
+        this.reconnectTask = null;
+        this.reconnects.incrementAndGet();
+        this.open();
+    }
+
+    private final class Response implements ClientResponseObserver<Sdk.Empty, Sdk.GameServer> {
+
+        private final long generation;
+
+        private Response(final long generation) {
+            this.generation = generation;
+        }
+
+        @Override
+        public void beforeStart(final ClientCallStreamObserver<Sdk.Empty> requestStream) {
+            synchronized (GameServerWatch.this) {
+                if (this.generation == GameServerWatch.this.generation) {
+                    GameServerWatch.this.call = requestStream;
+                }
+            }
+        }
+
+        @Override
+        public void onNext(final Sdk.GameServer value) {
+            GameServerWatch.this.received(this.generation, value);
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            GameServerWatch.this.broken(this.generation);
+        }
+
+        @Override
+        public void onCompleted() {
+            GameServerWatch.this.broken(this.generation);
+        }
+    }
+}
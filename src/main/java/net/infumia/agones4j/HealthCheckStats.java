@@ -0,0 +1,77 @@
+package net.infumia.agones4j;
+
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Represents the counters of the automatic health checking.
+ */
+public final class HealthCheckStats {
+
+    private final long pingsSent;
+    private final long failures;
+    private final long reconnects;
+
+    HealthCheckStats(final long pingsSent, final long failures, final long reconnects) {
+        this.pingsSent = pingsSent;
+        this.failures = failures;
+        this.reconnects = reconnects;
+    }
+
+    /**
+     * Retrieves the number of health pings sent.
+     *
+     * @return the pings sent.
+     */
+    public long getPingsSent() {
+        return this.pingsSent;
+    }
+
+    /**
+     * Retrieves the number of times the health stream has failed.
+     *
+     * @return the failures.
+     */
+    public long getFailures() {
+        return this.failures;
+    }
+
+    /**
+     * Retrieves the number of times the health stream has been reopened.
+     *
+     * @return the reconnects.
+     */
+    public long getReconnects() {
+        return this.reconnects;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || this.getClass() != obj.getClass()) {
+            return false;
+        }
+        final HealthCheckStats that = (HealthCheckStats) obj;
+        return (
+            Objects.equals(this.pingsSent, that.pingsSent) &&
+            Objects.equals(this.failures, that.failures) &&
+            Objects.equals(this.reconnects, that.reconnects)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.pingsSent, this.failures, this.reconnects);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", HealthCheckStats.class.getSimpleName() + "[", "]")
+            .add("pingsSent=" + this.pingsSent)
+            .add("failures=" + this.failures)
+            .add("reconnects=" + this.reconnects)
+            .toString();
+    }
+}
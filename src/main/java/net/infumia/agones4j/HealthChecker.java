@@ -0,0 +1,179 @@
+package net.infumia.agones4j;
+
+import agones.dev.sdk.Sdk;
+import io.grpc.stub.StreamObserver;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Sends health pings over a single health stream and reopens the stream when it breaks.
+ * <p>
+ * A broken stream is reopened with an exponential, jittered backoff and pinged right after it is reopened.
+ * <p>
+ * In adaptive mode pings start at the default period of Agones and then follow {@code Spec.Health} of the game server,
+ * shortened by a safety margin, and no pings are sent while health checking is disabled for the game server.
+ */
+final class HealthChecker {
+
+    private final Function<StreamObserver<Sdk.Empty>, StreamObserver<Sdk.Empty>> opener;
+    private final ScheduledExecutorService executor;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+
+    private final AtomicLong pingsSent = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong reconnects = new AtomicLong();
+
+    private ScheduledFuture<?> pingTask;
+    private ScheduledFuture<?> reconnectTask;
+    private StreamObserver<Sdk.Empty> stream;
+    private long generation;
+    private long periodNanos;
+    private long openedAt;
+    private int attempts;
+
+    HealthChecker(
+        final Function<StreamObserver<Sdk.Empty>, StreamObserver<Sdk.Empty>> opener,
+        final ScheduledExecutorService executor,
+        final long initialBackoffNanos,
+        final long maxBackoffNanos
+    ) {
+        this.opener = opener;
+        this.executor = executor;
+        this.initialBackoffNanos = initialBackoffNanos;
+        this.maxBackoffNanos = maxBackoffNanos;
+    }
+
+    synchronized void start(final long delayNanos, final long periodNanos) {
+        if (this.pingTask != null) {
+            this.pingTask.cancel(false);
+        }
+        if (this.stream == null && this.reconnectTask == null) {
+            this.open();
+        }
+        this.periodNanos = periodNanos;
+        this.pingTask = this.executor.scheduleAtFixedRate(
+                () -> this.ping(periodNanos),
+                delayNanos,
+                periodNanos,
+                TimeUnit.NANOSECONDS
+            );
+    }
+
+    synchronized void tune(final Sdk.GameServer.Spec.Health health, final double margin) {
+        if (health.getDisabled()) {
+            this.stop();
+            return;
+        }
+        final long period = (long) (
+            TimeUnit.SECONDS.toNanos(Math.max(1, health.getPeriodSeconds())) * (1.0D - margin)
+        );
+        if (period != this.periodNanos) {
+            this.start(0L, period);
+        }
+    }
+
+    synchronized void stop() {
+        this.periodNanos = 0L;
+        if (this.pingTask != null) {
+            this.pingTask.cancel(false);
+            this.pingTask = null;
+        }
+        if (this.reconnectTask != null) {
+            this.reconnectTask.cancel(false);
+            this.reconnectTask = null;
+        }
+        if (this.stream != null) {
+            this.generation++;
+            try {
+                this.stream.onCompleted();
+            } catch (final RuntimeException ignored) {}
+            this.stream = null;
+        }
+    }
+
+    HealthCheckStats stats() {
+        return new HealthCheckStats(this.pingsSent.get(), this.failures.get(), this.reconnects.get());
+    }
+
+    private synchronized void ping(final long periodNanos) {
+        if (this.stream == null) {
+            return;
+        }
+        if (this.attempts > 0 && System.nanoTime() - this.openedAt >= periodNanos) {
+            this.attempts = 0;
+        }
+        this.send();
+    }
+
+    private void send() {
+        try {
+            this.stream.onNext(Sdk.Empty.getDefaultInstance());
+            this.pingsSent.incrementAndGet();
+        } catch (final RuntimeException e) {
+            this.broken(this.generation);
+        }
+    }
+
+    private void open() {
+        final long generation = ++this.generation;
+        this.stream = this.opener.apply(new Response(generation));
+        this.openedAt = System.nanoTime();
+    }
+
+    private synchronized void broken(final long generation) {
+        if (generation != this.generation || this.pingTask == null) {
+            return;
+        }
+        this.failures.incrementAndGet();
+        this.generation++;
+        this.stream = null;
+        final long delay = this.backoffNanos(this.attempts);
+        this.attempts++;
+        this.reconnectTask = this.executor.schedule(this::reconnect, delay, TimeUnit.NANOSECONDS);
+    }
+
+    long backoffNanos(final int attempts) {
+        final long backoff = Math.min(
+            this.maxBackoffNanos,
+            this.initialBackoffNanos << Math.min(attempts, 30)
+        );
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    private synchronized void reconnect() {
+        if (this.pingTask == null) {
+            return;
+        }
+        this.reconnectTask = null;
+        this.reconnects.incrementAndGet();
+        this.open();
+        this.send();
+    }
+
+    private final class Response implements StreamObserver<Sdk.Empty> {
+
+        private final long generation;
+
+        private Response(final long generation) {
+            this.generation = generation;
+        }
+
+        @Override
+        public void onNext(final Sdk.Empty value) {}
+
+        @Override
+        public void onError(final Throwable t) {
+            HealthChecker.this.broken(this.generation);
+        }
+
+        @Override
+        public void onCompleted() {
+            HealthChecker.this.broken(this.generation);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package net.infumia.agones4j;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Represents how the latency-sensitive reads are hedged.
+ * <p>
+ * The {@code GetGameServer}, {@code GetCounter}, {@code GetList} and {@code GetPlayerCount} calls send a second request
+ * when the first one has not answered within the observed latency percentile of the method. The first answer is used
+ * and the other request is cancelled.
+ * <p>
+ * Hedging starts once enough latencies of the method are recorded, and it is turned off for a method while the share
+ * of its failed requests is above the error threshold, so a failing sidecar does not get twice the requests.
+ */
+public final class HedgePolicy {
+
+    private static final HedgePolicy NONE = new HedgePolicy(false, 95.0D, 0L, 100, 0.1D);
+
+    private static final HedgePolicy DEFAULTS = new HedgePolicy(
+        true,
+        95.0D,
+        Duration.ofMillis(1L).toNanos(),
+        100,
+        0.1D
+    );
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final int minSamples;
+    private final double errorThreshold;
+
+    private HedgePolicy(
+        final boolean enabled,
+        final double percentile,
+        final long minDelayNanos,
+        final int minSamples,
+        final double errorThreshold
+    ) {
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelayNanos = minDelayNanos;
+        this.minSamples = minSamples;
+        this.errorThreshold = errorThreshold;
+    }
+
+    /**
+     * Retrieves the policy without hedging.
+     *
+     * @return The policy without hedging.
+     */
+    public static HedgePolicy none() {
+        return HedgePolicy.NONE;
+    }
+
+    /**
+     * Retrieves the default policy.
+     * <p>
+     * The second request is sent after the p95 latency of the method, but not earlier than 1 millisecond, once 100
+     * latencies are recorded. Hedging is turned off while more than 10% of the requests fail.
+     *
+     * @return The default policy.
+     */
+    public static HedgePolicy defaults() {
+        return HedgePolicy.DEFAULTS;
+    }
+
+    /**
+     * Creates a copy of the policy with the latency percentile to wait for.
+     *
+     * @param percentile the percentile to wait for before sending the second request, between 0 and 100.
+     *
+     * @return A new policy with the percentile.
+     */
+    public HedgePolicy withPercentile(final double percentile) {
+        if (percentile <= 0.0D || percentile >= 100.0D) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100!");
+        }
+        return new HedgePolicy(
+            this.enabled,
+            percentile,
+            this.minDelayNanos,
+            this.minSamples,
+            this.errorThreshold
+        );
+    }
+
+    /**
+     * Creates a copy of the policy with the min delay.
+     *
+     * @param minDelay the min delay before sending the second request.
+     *
+     * @return A new policy with the min delay.
+     */
+    public HedgePolicy withMinDelay(final Duration minDelay) {
+        Objects.requireNonNull(minDelay, "minDelay");
+        if (minDelay.isNegative()) {
+            throw new IllegalArgumentException("Min delay must not be negative!");
+        }
+        return new HedgePolicy(
+            this.enabled,
+            this.percentile,
+            minDelay.toNanos(),
+            this.minSamples,
+            this.errorThreshold
+        );
+    }
+
+    /**
+     * Creates a copy of the policy with the min samples.
+     *
+     * @param minSamples the latencies to record for a method before hedging it.
+     *
+     * @return A new policy with the min samples.
+     */
+    public HedgePolicy withMinSamples(final int minSamples) {
+        if (minSamples < 1) {
+            throw new IllegalArgumentException("Min samples must be at least 1!");
+        }
+        return new HedgePolicy(
+            this.enabled,
+            this.percentile,
+            this.minDelayNanos,
+            minSamples,
+            this.errorThreshold
+        );
+    }
+
+    /**
+     * Creates a copy of the policy with the error threshold.
+     *
+     * @param errorThreshold the share of failed requests above which hedging is turned off, between 0 and 1.
+     *
+     * @return A new policy with the error threshold.
+     */
+    public HedgePolicy withErrorThreshold(final double errorThreshold) {
+        if (errorThreshold <= 0.0D || errorThreshold > 1.0D) {
+            throw new IllegalArgumentException("Error threshold must be between 0 and 1!");
+        }
+        return new HedgePolicy(
+            this.enabled,
+            this.percentile,
+            this.minDelayNanos,
+            this.minSamples,
+            errorThreshold
+        );
+    }
+
+    /**
+     * Checks if the policy hedges the reads.
+     *
+     * @return {@code true} if the reads are hedged, {@code false} otherwise.
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Retrieves the latency percentile to wait for.
+     *
+     * @return the percentile.
+     */
+    public double getPercentile() {
+        return this.percentile;
+    }
+
+    /**
+     * Retrieves the min delay before sending the second request.
+     *
+     * @return the min delay.
+     */
+    public Duration getMinDelay() {
+        return Duration.ofNanos(this.minDelayNanos);
+    }
+
+    /**
+     * Retrieves the latencies to record for a method before hedging it.
+     *
+     * @return the min samples.
+     */
+    public int getMinSamples() {
+        return this.minSamples;
+    }
+
+    /**
+     * Retrieves the share of failed requests above which hedging is turned off.
+     *
+     * @return the error threshold.
+     */
+    public double getErrorThreshold() {
+        return this.errorThreshold;
+    }
+
+    long minDelayNanos() {
+        return this.minDelayNanos;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || this.getClass() != obj.getClass()) {
+            return false;
+        }
+        final HedgePolicy that = (HedgePolicy) obj;
+        return (
+            this.enabled == that.enabled &&
+            Double.compare(this.percentile, that.percentile) == 0 &&
+            this.minDelayNanos == that.minDelayNanos &&
+            this.minSamples == that.minSamples &&
+            Double.compare(this.errorThreshold, that.errorThreshold) == 0
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.enabled,
+            this.percentile,
+            this.minDelayNanos,
+            this.minSamples,
+            this.errorThreshold
+        );
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", HedgePolicy.class.getSimpleName() + "[", "]")
+            .add("enabled=" + this.enabled)
+            .add("percentile=" + this.percentile)
+            .add("minDelay=" + this.getMinDelay())
+            .add("minSamples=" + this.minSamples)
+            .add("errorThreshold=" + this.errorThreshold)
+            .toString();
+    }
+}
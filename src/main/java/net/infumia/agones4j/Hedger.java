@@ -0,0 +1,241 @@
+package net.infumia.agones4j;
+
+import io.grpc.Context;
+import io.grpc.stub.StreamObserver;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Sends a second request for a read that is slower than the latency percentile of its method.
+ * <p>
+ * Every request runs in its own cancellable child of the caller's gRPC context, so the first answer cancels the other
+ * request and cancelling the caller cancels both. The answer is delivered in the caller's context, so calls chained on
+ * it do not inherit the cancelled one. The latency is measured from the first request to the first answer, so a
+ * first request that is cancelled by a faster second one still records how long it was waited for, and the percentile
+ * keeps the slow tail it is hedging against. Latencies and failures are kept per method in windows that are halved
+ * every {@link #WINDOW} requests.
+ */
+final class Hedger {
+
+    private static final long WINDOW = 1000L;
+
+    private final Map<String, Method> methods = new ConcurrentHashMap<>();
+    private final HedgePolicy policy;
+    private final Supplier<ScheduledExecutorService> scheduler;
+
+    Hedger(final HedgePolicy policy, final Supplier<ScheduledExecutorService> scheduler) {
+        this.policy = policy;
+        this.scheduler = scheduler;
+    }
+
+    Map<String, Long> hedges() {
+        final Map<String, Long> hedges = new TreeMap<>();
+        for (final Map.Entry<String, Method> entry : this.methods.entrySet()) {
+            hedges.put(entry.getKey(), entry.getValue().hedges.get());
+        }
+        return hedges;
+    }
+
+    <T> void call(
+        final String method,
+        final Consumer<StreamObserver<T>> call,
+        final StreamObserver<T> response
+    ) {
+        Method state = this.methods.get(method);
+        if (state == null) {
+            state = this.methods.computeIfAbsent(method, key -> new Method());
+        }
+        new Hedge<>(state, call, response, Context.current()).start();
+    }
+
+    private final class Method {
+
+        private final LatencyHistogram latencies = new LatencyHistogram(Hedger.WINDOW);
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong hedges = new AtomicLong();
+
+        private long delayNanos() {
+            if (this.latencies.count() < Hedger.this.policy.getMinSamples()) {
+                return -1L;
+            }
+            final long requests = this.requests.get();
+            final long failures = this.failures.get();
+            if (failures > requests * Hedger.this.policy.getErrorThreshold()) {
+                return -1L;
+            }
+            return Math.max(
+                Hedger.this.policy.minDelayNanos(),
+                this.latencies.percentile(Hedger.this.policy.getPercentile())
+            );
+        }
+
+        private void succeeded(final long nanos) {
+            this.latencies.record(nanos);
+            this.requested();
+        }
+
+        private void failed() {
+            this.failures.incrementAndGet();
+            this.requested();
+        }
+
+        private void requested() {
+            if (this.requests.incrementAndGet() < Hedger.WINDOW) {
+                return;
+            }
+            synchronized (this) {
+                final long requests = this.requests.get();
+                if (requests >= Hedger.WINDOW) {
+                    this.requests.addAndGet(-(requests - (requests >> 1)));
+                    final long failures = this.failures.get();
+                    this.failures.addAndGet(-(failures - (failures >> 1)));
+                }
+            }
+        }
+    }
+
+    private final class Hedge<T> {
+
+        private final Method method;
+        private final Consumer<StreamObserver<T>> call;
+        private final StreamObserver<T> response;
+        private final Context parent;
+        private final AtomicBoolean done = new AtomicBoolean();
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private final long startNanos = System.nanoTime();
+        private volatile Context.CancellableContext first;
+        private volatile Context.CancellableContext second;
+        private volatile ScheduledFuture<?> scheduled;
+
+        private Hedge(
+            final Method method,
+            final Consumer<StreamObserver<T>> call,
+            final StreamObserver<T> response,
+            final Context parent
+        ) {
+            this.method = method;
+            this.call = call;
+            this.response = response;
+            this.parent = parent;
+        }
+
+        private void start() {
+            final long delayNanos = this.method.delayNanos();
+            this.first = this.launch();
+            if (this.done.get()) {
+                this.first.cancel(null);
+                return;
+            }
+            if (delayNanos < 0L) {
+                return;
+            }
+            try {
+                this.scheduled = Hedger.this.scheduler.get()
+                    .schedule(this::hedge, delayNanos, TimeUnit.NANOSECONDS);
+            } catch (final RejectedExecutionException ignored) {}
+        }
+
+        private void hedge() {
+            int pending;
+            do {
+                pending = this.pending.get();
+                if (pending == 0 || this.done.get() || this.parent.isCancelled()) {
+                    return;
+                }
+            } while (!this.pending.compareAndSet(pending, pending + 1));
+            this.method.hedges.incrementAndGet();
+            this.second = this.launch();
+            if (this.done.get()) {
+                this.second.cancel(null);
+            }
+        }
+
+        private Context.CancellableContext launch() {
+            final Context.CancellableContext context = this.parent.withCancellation();
+            final Attempt<T> attempt = new Attempt<>(this, context);
+            final Context previous = context.attach();
+            try {
+                this.call.accept(attempt);
+            } finally {
+                context.detach(previous);
+            }
+            return context;
+        }
+
+        private void completed(final T value) {
+            if (!this.done.compareAndSet(false, true)) {
+                return;
+            }
+            this.method.succeeded(System.nanoTime() - this.startNanos);
+            this.finish();
+            this.parent.run(() -> {
+                this.response.onNext(value);
+                this.response.onCompleted();
+            });
+        }
+
+        private void failed(final Throwable t) {
+            if (this.pending.decrementAndGet() != 0 || !this.done.compareAndSet(false, true)) {
+                return;
+            }
+            this.finish();
+            this.parent.run(() -> this.response.onError(t));
+        }
+
+        private void finish() {
+            final ScheduledFuture<?> scheduled = this.scheduled;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+            final Context.CancellableContext first = this.first;
+            if (first != null) {
+                first.cancel(null);
+            }
+            final Context.CancellableContext second = this.second;
+            if (second != null) {
+                second.cancel(null);
+            }
+        }
+    }
+
+    private final class Attempt<T> implements StreamObserver<T> {
+
+        private final Hedge<T> hedge;
+        private final Context.CancellableContext context;
+        private volatile T value;
+
+        private Attempt(final Hedge<T> hedge, final Context.CancellableContext context) {
+            this.hedge = hedge;
+            this.context = context;
+        }
+
+        @Override
+        public void onNext(final T value) {
+            this.value = value;
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            if (!this.context.isCancelled()) {
+                this.hedge.method.failed();
+            }
+            this.hedge.failed(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            this.hedge.completed(this.value);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package net.infumia.agones4j;
+
+import io.grpc.Status;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps per-method call counters, status codes, in-flight gauges and latency histograms in memory.
+ * <p>
+ * Recording a call allocates nothing once the method has been seen. Use {@link #snapshot()} to scrape the current
+ * values.
+ */
+public final class InMemoryAgonesMetrics implements AgonesMetrics {
+
+    private static final Status.Code[] CODES = Status.Code.values();
+
+    private final Map<String, Method> methods = new ConcurrentHashMap<>();
+
+    InMemoryAgonesMetrics() {}
+
+    @Override
+    public void callStarted(final String method) {
+        this.method(method).inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void callCompleted(
+        final String method,
+        final Status.Code code,
+        final long latencyNanos
+    ) {
+        final Method metrics = this.method(method);
+        metrics.inFlight.decrementAndGet();
+        metrics.codes.incrementAndGet(code.ordinal());
+        metrics.latency.record(latencyNanos);
+    }
+
+    /**
+     * Retrieves the metrics of every method called so far.
+     *
+     * @return the method metrics by full method name.
+     */
+    public Map<String, MethodMetrics> snapshot() {
+        final Map<String, MethodMetrics> snapshot = new TreeMap<>();
+        for (final Map.Entry<String, Method> entry : this.methods.entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().snapshot(entry.getKey()));
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Retrieves the metrics of a method.
+     *
+     * @param method the full method name.
+     *
+     * @return the method metrics, or {@code null} if the method has not been called.
+     */
+    public MethodMetrics snapshot(final String method) {
+        final Method metrics = this.methods.get(method);
+        return metrics == null ? null : metrics.snapshot(method);
+    }
+
+    /**
+     * Clears the counters and histograms of every method. In-flight gauges are kept.
+     */
+    public void reset() {
+        for (final Method method : this.methods.values()) {
+            for (int i = 0; i < InMemoryAgonesMetrics.CODES.length; i++) {
+                method.codes.set(i, 0L);
+            }
+            method.latency.reset();
+        }
+    }
+
+    private Method method(final String method) {
+        final Method metrics = this.methods.get(method);
+        if (metrics != null) {
+            return metrics;
+        }
+        return this.methods.computeIfAbsent(method, key -> new Method());
+    }
+
+    private static final class Method {
+
+        private final AtomicLong inFlight = new AtomicLong();
+        private final AtomicLongArray codes = new AtomicLongArray(
+            InMemoryAgonesMetrics.CODES.length
+        );
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private MethodMetrics snapshot(final String method) {
+            final Map<Status.Code, Long> codes = new TreeMap<>();
+            for (int i = 0; i < InMemoryAgonesMetrics.CODES.length; i++) {
+                final long count = this.codes.get(i);
+                if (count != 0L) {
+                    codes.put(InMemoryAgonesMetrics.CODES[i], count);
+                }
+            }
+            final LatencyHistogram latency = new LatencyHistogram();
+            latency.merge(this.latency);
+            return new MethodMetrics(method, this.inFlight.get(), codes, latency);
+        }
+    }
+}
@@ -2,13 +2,12 @@ package net.infumia.agones4j;
 
 import agones.dev.sdk.Sdk;
 import agones.dev.sdk.beta.Beta;
+import io.grpc.Context;
 import io.grpc.stub.StreamObserver;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -47,6 +46,17 @@ final class Internal {
         return new AgonesList(list.getName(), list.getCapacity(), list.getValuesList());
     }
 
+    static AgonesCounter toCounter(
+        final String name,
+        final Sdk.GameServer.Status.CounterStatus counter
+    ) {
+        return new AgonesCounter(name, counter.getCapacity(), counter.getCount());
+    }
+
+    static AgonesList toList(final String name, final Sdk.GameServer.Status.ListStatus list) {
+        return new AgonesList(name, list.getCapacity(), list.getValuesList());
+    }
+
     static Beta.List toAgonesList(final AgonesList list) {
         return Beta.List.newBuilder()
             .setName(list.getName())
@@ -87,24 +97,34 @@ final class Internal {
         return Internal.EMPTY;
     }
 
+    /**
+     * Creates a future that is completed by the observer passed to the call.
+     * <p>
+     * The call is made in a cancellable gRPC context, so cancelling the future cancels the call and every call chained
+     * from its callbacks. Abandoned calls release their stream and stop the server work. A call whose future is
+     * cancelled before the call starts fails with {@link io.grpc.Status.Code#CANCELLED} instead of being sent.
+     *
+     * @param response the call to make with the observer.
+     * @param <T> the value type.
+     *
+     * @return A cancellable future.
+     */
     static <T> CompletableFuture<T> observerToFuture(final Consumer<StreamObserver<T>> response) {
-        final CompletableFuture<T> future = new CompletableFuture<>();
-        response.accept(new Future<>(future));
+        final Future<T> future = new Future<>(Context.current().withCancellation());
+        final Context previous = future.context.attach();
+        try {
+            response.accept(future);
+        } finally {
+            future.context.detach(previous);
+        }
         return future;
     }
 
-    static <T> StreamObserver<T> observerOnNext(
-        final Executor executor,
-        final List<Consumer<T>> consumers
-    ) {
+    static <T> StreamObserver<T> observerOnNext(final Consumer<T> consumer) {
         return new Adapter<T>() {
             @Override
             public void onNext(final T value) {
-                executor.execute(() -> {
-                    for (final Consumer<T> consumer : consumers) {
-                        consumer.accept(value);
-                    }
-                });
+                consumer.accept(value);
             }
         };
     }
@@ -116,6 +136,40 @@ final class Internal {
         return new Mapped<>(observer, mapper);
     }
 
+    static <T> StreamObserver<T> observerFanout(final List<StreamObserver<T>> observers) {
+        return new Fanout<>(observers);
+    }
+
+    private static final class Fanout<T> implements StreamObserver<T> {
+
+        private final List<StreamObserver<T>> observers;
+
+        private Fanout(final List<StreamObserver<T>> observers) {
+            this.observers = observers;
+        }
+
+        @Override
+        public void onNext(final T value) {
+            for (final StreamObserver<T> observer : this.observers) {
+                observer.onNext(value);
+            }
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            for (final StreamObserver<T> observer : this.observers) {
+                observer.onError(t);
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            for (final StreamObserver<T> observer : this.observers) {
+                observer.onCompleted();
+            }
+        }
+    }
+
     private static final class Mapped<T, R> implements StreamObserver<R> {
 
         private final StreamObserver<T> observer;
@@ -142,28 +196,37 @@ final class Internal {
         }
     }
 
-    private static final class Future<T> implements StreamObserver<T> {
+    private static final class Future<T> extends CompletableFuture<T> implements StreamObserver<T> {
 
-        private final AtomicReference<T> value = new AtomicReference<>();
-        private final CompletableFuture<T> future;
+        private final Context.CancellableContext context;
+        private volatile T value;
 
-        private Future(final CompletableFuture<T> future) {
-            this.future = future;
+        private Future(final Context.CancellableContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                this.context.cancel(null);
+            }
+            return cancelled;
         }
 
         @Override
         public void onNext(final T value) {
-            this.value.set(value);
+            this.value = value;
         }
 
         @Override
         public void onError(final Throwable t) {
-            this.future.completeExceptionally(t);
+            this.completeExceptionally(t);
         }
 
         @Override
         public void onCompleted() {
-            this.future.complete(this.value.get());
+            this.complete(this.value);
         }
     }
 
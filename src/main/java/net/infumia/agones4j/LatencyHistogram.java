@@ -0,0 +1,117 @@
+package net.infumia.agones4j;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A log-linear latency histogram in nanoseconds.
+ * <p>
+ * Every power of two is split into 8 buckets, which keeps the relative error of a percentile under 12.5% with a fixed
+ * array and no allocation per record. Histograms with the same layout can be merged by adding their buckets.
+ * <p>
+ * If a window is given, all buckets are halved whenever the number of records reaches the window, so percentiles
+ * follow recent latencies.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << LatencyHistogram.SUB_BUCKET_BITS;
+    private static final int BUCKETS =
+        (64 - LatencyHistogram.SUB_BUCKET_BITS + 1) * LatencyHistogram.SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(LatencyHistogram.BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicBoolean decaying = new AtomicBoolean();
+    private final long window;
+
+    LatencyHistogram() {
+        this(0L);
+    }
+
+    LatencyHistogram(final long window) {
+        this.window = window;
+    }
+
+    void record(final long nanos) {
+        this.buckets.incrementAndGet(LatencyHistogram.bucket(Math.max(0L, nanos)));
+        final long count = this.count.incrementAndGet();
+        if (this.window > 0L && count >= this.window) {
+            this.decay();
+        }
+    }
+
+    long count() {
+        return this.count.get();
+    }
+
+    long percentile(final double percentile) {
+        final long count = this.count.get();
+        if (count == 0L) {
+            return 0L;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(count * percentile / 100.0D));
+        long seen = 0L;
+        for (int i = 0; i < LatencyHistogram.BUCKETS; i++) {
+            seen += this.buckets.get(i);
+            if (seen >= rank) {
+                return LatencyHistogram.highestValue(i);
+            }
+        }
+        return LatencyHistogram.highestValue(LatencyHistogram.BUCKETS - 1);
+    }
+
+    void merge(final LatencyHistogram other) {
+        for (int i = 0; i < LatencyHistogram.BUCKETS; i++) {
+            final long value = other.buckets.get(i);
+            if (value != 0L) {
+                this.buckets.addAndGet(i, value);
+                this.count.addAndGet(value);
+            }
+        }
+    }
+
+    void reset() {
+        for (int i = 0; i < LatencyHistogram.BUCKETS; i++) {
+            this.count.addAndGet(-this.buckets.getAndSet(i, 0L));
+        }
+    }
+
+    private void decay() {
+        if (!this.decaying.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            for (int i = 0; i < LatencyHistogram.BUCKETS; i++) {
+                final long value = this.buckets.get(i);
+                if (value != 0L) {
+                    final long removed = value - (value >> 1);
+                    this.buckets.addAndGet(i, -removed);
+                    this.count.addAndGet(-removed);
+                }
+            }
+        } finally {
+            this.decaying.set(false);
+        }
+    }
+
+    private static int bucket(final long value) {
+        if (value < LatencyHistogram.SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - LatencyHistogram.SUB_BUCKET_BITS;
+        final int subBucket = (int) (value >>> shift) & (LatencyHistogram.SUB_BUCKETS - 1);
+        return (shift + 1) * LatencyHistogram.SUB_BUCKETS + subBucket;
+    }
+
+    private static long highestValue(final int bucket) {
+        if (bucket < LatencyHistogram.SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = bucket / LatencyHistogram.SUB_BUCKETS - 1;
+        final long subBucket = bucket % LatencyHistogram.SUB_BUCKETS;
+        final long lowest = (LatencyHistogram.SUB_BUCKETS + subBucket) << shift;
+        return lowest + (1L << shift) - 1L;
+    }
+}
@@ -0,0 +1,63 @@
+package net.infumia.agones4j;
+
+import io.grpc.MethodDescriptor;
+
+/**
+ * Represents the groups of the unary Agones SDK methods that share call policies.
+ * <p>
+ * The watch and health streams do not belong to any group.
+ */
+public enum MethodGroup {
+    /**
+     * The {@code Ready}, {@code Allocate}, {@code Reserve} and {@code Shutdown} methods.
+     */
+    LIFECYCLE,
+    /**
+     * The {@code GetGameServer}, {@code SetLabel} and {@code SetAnnotation} methods.
+     */
+    METADATA,
+    /**
+     * The player tracking methods of the alpha SDK.
+     */
+    PLAYER_TRACKING,
+    /**
+     * The counter and list methods of the beta SDK.
+     */
+    COUNTERS_AND_LISTS;
+
+    /**
+     * Finds the group of the method.
+     *
+     * @param method the method to find.
+     *
+     * @return the group of the method, or {@code null} if it is a stream or not an Agones SDK method.
+     */
+    static MethodGroup of(final MethodDescriptor<?, ?> method) {
+        if (method.getType() != MethodDescriptor.MethodType.UNARY) {
+            return null;
+        }
+        final String service = method.getServiceName();
+        if (agones.dev.sdk.beta.SDKGrpc.SERVICE_NAME.equals(service)) {
+            return MethodGroup.COUNTERS_AND_LISTS;
+        }
+        if (agones.dev.sdk.alpha.SDKGrpc.SERVICE_NAME.equals(service)) {
+            return MethodGroup.PLAYER_TRACKING;
+        }
+        if (!agones.dev.sdk.SDKGrpc.SERVICE_NAME.equals(service)) {
+            return null;
+        }
+        switch (method.getBareMethodName()) {
+            case "Ready":
+            case "Allocate":
+            case "Reserve":
+            case "Shutdown":
+                return MethodGroup.LIFECYCLE;
+            case "GetGameServer":
+            case "SetLabel":
+            case "SetAnnotation":
+                return MethodGroup.METADATA;
+            default:
+                return null;
+        }
+    }
+}
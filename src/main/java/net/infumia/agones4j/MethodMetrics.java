@@ -0,0 +1,148 @@
+package net.infumia.agones4j;
+
+import io.grpc.Status;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * Represents a snapshot of the metrics of a single method.
+ */
+public final class MethodMetrics {
+
+    private final String method;
+    private final long inFlight;
+    private final Map<Status.Code, Long> codes;
+    private final LatencyHistogram latency;
+
+    MethodMetrics(
+        final String method,
+        final long inFlight,
+        final Map<Status.Code, Long> codes,
+        final LatencyHistogram latency
+    ) {
+        this.method = method;
+        this.inFlight = inFlight;
+        this.codes = Collections.unmodifiableMap(codes);
+        this.latency = latency;
+    }
+
+    /**
+     * Retrieves the full method name.
+     *
+     * @return the method name.
+     */
+    public String getMethod() {
+        return this.method;
+    }
+
+    /**
+     * Retrieves the number of calls that are started but not closed yet.
+     *
+     * @return the in-flight calls.
+     */
+    public long getInFlight() {
+        return this.inFlight;
+    }
+
+    /**
+     * Retrieves the number of closed calls.
+     *
+     * @return the closed calls.
+     */
+    public long getCalls() {
+        return this.latency.count();
+    }
+
+    /**
+     * Retrieves the number of closed calls by status code.
+     *
+     * @return the calls by status code.
+     */
+    public Map<Status.Code, Long> getCodes() {
+        return this.codes;
+    }
+
+    /**
+     * Retrieves the number of calls closed with a status other than {@link Status.Code#OK}.
+     *
+     * @return the failed calls.
+     */
+    public long getErrors() {
+        long errors = 0L;
+        for (final Map.Entry<Status.Code, Long> entry : this.codes.entrySet()) {
+            if (entry.getKey() != Status.Code.OK) {
+                errors += entry.getValue();
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Retrieves a percentile of the call latencies.
+     * <p>
+     * The value is the upper bound of its histogram bucket, with a relative error under 12.5%.
+     *
+     * @param percentile the percentile, between 0 and 100.
+     *
+     * @return the latency in nanoseconds, 0 if there are no calls.
+     */
+    public long getLatencyNanos(final double percentile) {
+        if (percentile < 0.0D || percentile > 100.0D) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100!");
+        }
+        return this.latency.percentile(percentile);
+    }
+
+    /**
+     * Merges this snapshot with another snapshot of the same method, e.g. from another instance.
+     *
+     * @param other the other snapshot.
+     *
+     * @return A new snapshot with the sum of both.
+     */
+    public MethodMetrics merge(final MethodMetrics other) {
+        final Map<Status.Code, Long> codes = new TreeMap<>(this.codes);
+        for (final Map.Entry<Status.Code, Long> entry : other.codes.entrySet()) {
+            codes.merge(entry.getKey(), entry.getValue(), Long::sum);
+        }
+        final LatencyHistogram latency = new LatencyHistogram();
+        latency.merge(this.latency);
+        latency.merge(other.latency);
+        return new MethodMetrics(this.method, this.inFlight + other.inFlight, codes, latency);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || this.getClass() != obj.getClass()) {
+            return false;
+        }
+        final MethodMetrics that = (MethodMetrics) obj;
+        return (
+            Objects.equals(this.method, that.method) &&
+            Objects.equals(this.inFlight, that.inFlight) &&
+            Objects.equals(this.codes, that.codes)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.method, this.inFlight, this.codes);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", MethodMetrics.class.getSimpleName() + "[", "]")
+            .add("method='" + this.method + "'")
+            .add("inFlight=" + this.inFlight)
+            .add("codes=" + this.codes)
+            .add("p50=" + this.latency.percentile(50.0D))
+            .add("p99=" + this.latency.percentile(99.0D))
+            .toString();
+    }
+}
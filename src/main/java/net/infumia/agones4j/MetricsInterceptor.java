@@ -0,0 +1,86 @@
+package net.infumia.agones4j;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * Reports the start, status and latency of every call made through the channel to the metrics.
+ */
+final class MetricsInterceptor implements ClientInterceptor {
+
+    private final AgonesMetrics metrics;
+
+    MetricsInterceptor(final AgonesMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+        final MethodDescriptor<ReqT, RespT> method,
+        final CallOptions callOptions,
+        final Channel next
+    ) {
+        return new Call<>(method.getFullMethodName(), next.newCall(method, callOptions));
+    }
+
+    private final class Call<ReqT, RespT>
+        extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+
+        private final String method;
+
+        private Call(final String method, final ClientCall<ReqT, RespT> delegate) {
+            super(delegate);
+            this.method = method;
+        }
+
+        @Override
+        public void start(final Listener<RespT> responseListener, final Metadata headers) {
+            final long startedAt = System.nanoTime();
+            MetricsInterceptor.this.metrics.callStarted(this.method);
+            try {
+                super.start(new Closing<>(this.method, startedAt, responseListener), headers);
+            } catch (final RuntimeException e) {
+                MetricsInterceptor.this.metrics.callCompleted(
+                        this.method,
+                        Status.Code.UNKNOWN,
+                        System.nanoTime() - startedAt
+                    );
+                throw e;
+            }
+        }
+    }
+
+    private final class Closing<RespT>
+        extends ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT> {
+
+        private final String method;
+        private final long startedAt;
+
+        private Closing(
+            final String method,
+            final long startedAt,
+            final ClientCall.Listener<RespT> delegate
+        ) {
+            super(delegate);
+            this.method = method;
+            this.startedAt = startedAt;
+        }
+
+        @Override
+        public void onClose(final Status status, final Metadata trailers) {
+            MetricsInterceptor.this.metrics.callCompleted(
+                    this.method,
+                    status.getCode(),
+                    System.nanoTime() - this.startedAt
+                );
+            super.onClose(status, trailers);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package net.infumia.agones4j;
+
+import io.grpc.Status;
+
+final class NoopMetrics implements AgonesMetrics {
+
+    static final AgonesMetrics INSTANCE = new NoopMetrics();
+
+    private NoopMetrics() {}
+
+    @Override
+    public void callStarted(final String method) {}
+
+    @Override
+    public void callCompleted(
+        final String method,
+        final Status.Code code,
+        final long latencyNanos
+    ) {}
+}
@@ -0,0 +1,77 @@
+package net.infumia.agones4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mirrors the connected player ids in memory.
+ * <p>
+ * The mirror follows successful connect and disconnect calls of this SDK and reconciles against the ids the sidecar
+ * reports. Ids changed through this SDK within the reconcile grace are left as they are, since the reported ids lag
+ * behind the sidecar's own state.
+ */
+final class PlayerTracker {
+
+    private final Set<String> players = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> changedAt = new ConcurrentHashMap<>();
+
+    private final long reconcileGraceNanos;
+    private volatile boolean synced;
+
+    PlayerTracker(final long reconcileGraceNanos) {
+        this.reconcileGraceNanos = reconcileGraceNanos;
+    }
+
+    boolean isSynced() {
+        return this.synced;
+    }
+
+    boolean isConnected(final String playerId) {
+        return this.players.contains(playerId);
+    }
+
+    long count() {
+        return this.players.size();
+    }
+
+    List<String> players() {
+        return new ArrayList<>(this.players);
+    }
+
+    void connected(final String playerId) {
+        this.changedAt.put(playerId, System.nanoTime());
+        this.players.add(playerId);
+    }
+
+    void disconnected(final String playerId) {
+        this.changedAt.put(playerId, System.nanoTime());
+        this.players.remove(playerId);
+    }
+
+    void reconcile(final Collection<String> playerIds) {
+        final long now = System.nanoTime();
+        final Set<String> reported = new HashSet<>(playerIds);
+        for (final String playerId : reported) {
+            if (!this.players.contains(playerId) && !this.isRecentlyChanged(playerId, now)) {
+                this.players.add(playerId);
+            }
+        }
+        for (final String playerId : this.players) {
+            if (!reported.contains(playerId) && !this.isRecentlyChanged(playerId, now)) {
+                this.players.remove(playerId);
+            }
+        }
+        this.changedAt.values().removeIf(changedAt -> now - changedAt > this.reconcileGraceNanos);
+        this.synced = true;
+    }
+
+    private boolean isRecentlyChanged(final String playerId, final long now) {
+        final Long changedAt = this.changedAt.get(playerId);
+        return changedAt != null && now - changedAt <= this.reconcileGraceNanos;
+    }
+}
@@ -0,0 +1,216 @@
+package net.infumia.agones4j;
+
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Retries idempotent calls after {@link Status.Code#UNAVAILABLE} errors within a shared token bucket budget.
+ * <p>
+ * The budget follows the gRPC retry throttling: tokens are kept in thousandths, every failed attempt takes a whole
+ * token, every successful call returns the token ratio, and retries are allowed only while more than half of the
+ * tokens are left. Retries are scheduled in the gRPC context of the first attempt, so they keep its deadline and stop
+ * once it is cancelled. Both blocking and asynchronous calls share one deadline between their attempts, and they are
+ * not retried when the backoff would outlast that deadline. The answer of an asynchronous call is delivered in the
+ * caller's context, so calls chained on it do not inherit the shared deadline.
+ */
+final class Retrier {
+
+    private static final int TOKEN_SCALE = 1000;
+
+    private final RetryPolicy policy;
+    private final Supplier<ScheduledExecutorService> scheduler;
+    private final int maxTokens;
+    private final int tokenRatio;
+    private final AtomicInteger tokens;
+
+    Retrier(final RetryPolicy policy, final Supplier<ScheduledExecutorService> scheduler) {
+        this.policy = policy;
+        this.scheduler = scheduler;
+        this.maxTokens = policy.getMaxTokens() * Retrier.TOKEN_SCALE;
+        this.tokenRatio = (int) (policy.getTokenRatio() * Retrier.TOKEN_SCALE);
+        this.tokens = new AtomicInteger(this.maxTokens);
+    }
+
+    <T> void call(
+        final Consumer<StreamObserver<T>> call,
+        final StreamObserver<T> response,
+        final long deadlineNanos
+    ) {
+        final Context parent = Context.current();
+        if (deadlineNanos == 0L) {
+            call.accept(new Attempt<>(call, response, parent, null, 1));
+            return;
+        }
+        final Context.CancellableContext deadline = parent.withDeadlineAfter(
+            deadlineNanos,
+            TimeUnit.NANOSECONDS,
+            this.scheduler.get()
+        );
+        final Attempt<T> attempt = new Attempt<>(call, response, parent, deadline, 1);
+        deadline.run(() -> call.accept(attempt));
+    }
+
+    <T> T callBlocking(final Supplier<T> call, final Deadline deadline) {
+        int attempt = 1;
+        while (true) {
+            final T value;
+            try {
+                value = call.get();
+            } catch (final StatusRuntimeException e) {
+                final Context context = Context.current();
+                if (context.isCancelled() || !this.shouldRetry(e, attempt)) {
+                    throw e;
+                }
+                final long backoffNanos = this.backoffNanos(attempt);
+                if (
+                    Retrier.expiresWithin(deadline, backoffNanos) ||
+                    Retrier.expiresWithin(context.getDeadline(), backoffNanos)
+                ) {
+                    throw e;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.sleep(backoffNanos);
+                } catch (final InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+                attempt++;
+                continue;
+            }
+            this.succeeded();
+            return value;
+        }
+    }
+
+    private static boolean expiresWithin(final Deadline deadline, final long nanos) {
+        return deadline != null && deadline.timeRemaining(TimeUnit.NANOSECONDS) <= nanos;
+    }
+
+    private boolean shouldRetry(final Throwable error, final int attempt) {
+        if (Status.fromThrowable(error).getCode() != Status.Code.UNAVAILABLE) {
+            return false;
+        }
+        final boolean allowed = this.failed();
+        return allowed && attempt < this.policy.getMaxAttempts();
+    }
+
+    private void succeeded() {
+        int current;
+        do {
+            current = this.tokens.get();
+            if (current >= this.maxTokens) {
+                return;
+            }
+        } while (
+            !this.tokens.compareAndSet(
+                current,
+                Math.min(this.maxTokens, current + this.tokenRatio)
+            )
+        );
+    }
+
+    private boolean failed() {
+        int current;
+        int updated;
+        do {
+            current = this.tokens.get();
+            updated = Math.max(0, current - Retrier.TOKEN_SCALE);
+        } while (!this.tokens.compareAndSet(current, updated));
+        return updated > this.maxTokens / 2;
+    }
+
+    private long backoffNanos(final int attempt) {
+        final long backoff = Math.min(
+            this.policy.maxBackoffNanos(),
+            this.policy.initialBackoffNanos() << Math.min(attempt - 1, 30)
+        );
+        return ThreadLocalRandom.current().nextLong(backoff + 1L);
+    }
+
+    private final class Attempt<T> implements StreamObserver<T> {
+
+        private final Consumer<StreamObserver<T>> call;
+        private final StreamObserver<T> response;
+        private final Context parent;
+        private final Context.CancellableContext deadline;
+        private final int attempt;
+
+        private Attempt(
+            final Consumer<StreamObserver<T>> call,
+            final StreamObserver<T> response,
+            final Context parent,
+            final Context.CancellableContext deadline,
+            final int attempt
+        ) {
+            this.call = call;
+            this.response = response;
+            this.parent = parent;
+            this.deadline = deadline;
+            this.attempt = attempt;
+        }
+
+        @Override
+        public void onNext(final T value) {
+            this.parent.run(() -> this.response.onNext(value));
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            final Context context = this.deadline == null ? this.parent : this.deadline;
+            if (context.isCancelled() || !Retrier.this.shouldRetry(t, this.attempt)) {
+                this.fail(t);
+                return;
+            }
+            final long backoffNanos = Retrier.this.backoffNanos(this.attempt);
+            if (Retrier.expiresWithin(context.getDeadline(), backoffNanos)) {
+                this.fail(t);
+                return;
+            }
+            final Attempt<T> next = new Attempt<>(
+                this.call,
+                this.response,
+                this.parent,
+                this.deadline,
+                this.attempt + 1
+            );
+            try {
+                Retrier.this.scheduler.get()
+                    .schedule(
+                        context.wrap(() -> this.call.accept(next)),
+                        backoffNanos,
+                        TimeUnit.NANOSECONDS
+                    );
+            } catch (final RejectedExecutionException e) {
+                this.fail(t);
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            Retrier.this.succeeded();
+            this.release();
+            this.parent.run(this.response::onCompleted);
+        }
+
+        private void fail(final Throwable t) {
+            this.release();
+            this.parent.run(() -> this.response.onError(t));
+        }
+
+        private void release() {
+            if (this.deadline != null) {
+                this.deadline.cancel(null);
+            }
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package net.infumia.agones4j;
+
+import agones.dev.sdk.beta.Beta;
+import io.grpc.MethodDescriptor;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Represents how idempotent calls are retried after transient {@link io.grpc.Status.Code#UNAVAILABLE} errors.
+ * <p>
+ * Only calls that can safely be sent twice are retried: reads, {@code SetLabel}, {@code SetAnnotation}, setting the
+ * count or capacity of a counter, updating a list, and setting the player capacity. Lifecycle calls, counter deltas,
+ * list value additions and removals, and player connects and disconnects are never retried.
+ * <p>
+ * Retries wait for an exponential backoff with full jitter. A token bucket shared by all calls limits them: every
+ * failed attempt takes a token, every successful call returns a fraction of one, and retries stop while the bucket is
+ * at most half full. So retries cannot amplify the load on a sidecar that is already failing.
+ */
+public final class RetryPolicy {
+
+    private static final RetryPolicy DEFAULTS = new RetryPolicy(
+        3,
+        Duration.ofMillis(50L).toNanos(),
+        Duration.ofSeconds(1L).toNanos(),
+        10,
+        0.1D
+    );
+
+    private static final RetryPolicy NONE = RetryPolicy.DEFAULTS.withMaxAttempts(1);
+
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final int maxTokens;
+    private final double tokenRatio;
+
+    private RetryPolicy(
+        final int maxAttempts,
+        final long initialBackoffNanos,
+        final long maxBackoffNanos,
+        final int maxTokens,
+        final double tokenRatio
+    ) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffNanos = initialBackoffNanos;
+        this.maxBackoffNanos = maxBackoffNanos;
+        this.maxTokens = maxTokens;
+        this.tokenRatio = tokenRatio;
+    }
+
+    /**
+     * Retrieves the policy without retries.
+     * <p>
+     * It has the backoff and the retry budget of {@link #defaults()}, so {@link #withMaxAttempts(int)} is enough to
+     * turn retries on.
+     *
+     * @return The policy without retries.
+     */
+    public static RetryPolicy none() {
+        return RetryPolicy.NONE;
+    }
+
+    /**
+     * Retrieves the default policy.
+     * <p>
+     * Calls are attempted up to 3 times with a backoff from 50 milliseconds up to 1 second, and the retry budget has 10
+     * tokens with a token ratio of 0.1.
+     *
+     * @return The default policy.
+     */
+    public static RetryPolicy defaults() {
+        return RetryPolicy.DEFAULTS;
+    }
+
+    /**
+     * Creates a copy of the policy with the max attempts.
+     *
+     * @param maxAttempts the max attempts of a call, including the first one. 1 to disable retries.
+     *
+     * @return A new policy with the max attempts.
+     */
+    public RetryPolicy withMaxAttempts(final int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be at least 1!");
+        }
+        return new RetryPolicy(
+            maxAttempts,
+            this.initialBackoffNanos,
+            this.maxBackoffNanos,
+            this.maxTokens,
+            this.tokenRatio
+        );
+    }
+
+    /**
+     * Creates a copy of the policy with the backoff.
+     *
+     * @param initialBackoff the backoff of the first retry, doubled on each retry.
+     * @param maxBackoff the max backoff.
+     *
+     * @return A new policy with the backoff.
+     */
+    public RetryPolicy withBackoff(final Duration initialBackoff, final Duration maxBackoff) {
+        Objects.requireNonNull(initialBackoff, "initialBackoff");
+        Objects.requireNonNull(maxBackoff, "maxBackoff");
+        if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException(
+                "Backoff must be non-negative and not greater than max backoff!"
+            );
+        }
+        return new RetryPolicy(
+            this.maxAttempts,
+            initialBackoff.toNanos(),
+            maxBackoff.toNanos(),
+            this.maxTokens,
+            this.tokenRatio
+        );
+    }
+
+    /**
+     * Creates a copy of the policy with the retry budget.
+     *
+     * @param maxTokens the size of the token bucket.
+     * @param tokenRatio the tokens returned by each successful call, between 0 and 1.
+     *
+     * @return A new policy with the retry budget.
+     */
+    public RetryPolicy withBudget(final int maxTokens, final double tokenRatio) {
+        if (maxTokens < 1) {
+            throw new IllegalArgumentException("Max tokens must be at least 1!");
+        }
+        if (tokenRatio <= 0.0D || tokenRatio > 1.0D) {
+            throw new IllegalArgumentException("Token ratio must be between 0 and 1!");
+        }
+        return new RetryPolicy(
+            this.maxAttempts,
+            this.initialBackoffNanos,
+            this.maxBackoffNanos,
+            maxTokens,
+            tokenRatio
+        );
+    }
+
+    /**
+     * Retrieves the max attempts of a call.
+     *
+     * @return the max attempts.
+     */
+    public int getMaxAttempts() {
+        return this.maxAttempts;
+    }
+
+    /**
+     * Retrieves the backoff of the first retry.
+     *
+     * @return the initial backoff.
+     */
+    public Duration getInitialBackoff() {
+        return Duration.ofNanos(this.initialBackoffNanos);
+    }
+
+    /**
+     * Retrieves the max backoff.
+     *
+     * @return the max backoff.
+     */
+    public Duration getMaxBackoff() {
+        return Duration.ofNanos(this.maxBackoffNanos);
+    }
+
+    /**
+     * Retrieves the size of the token bucket.
+     *
+     * @return the max tokens.
+     */
+    public int getMaxTokens() {
+        return this.maxTokens;
+    }
+
+    /**
+     * Retrieves the tokens returned by each successful call.
+     *
+     * @return the token ratio.
+     */
+    public double getTokenRatio() {
+        return this.tokenRatio;
+    }
+
+    boolean isEnabled() {
+        return this.maxAttempts > 1;
+    }
+
+    static boolean isIdempotent(final MethodDescriptor<?, ?> method, final Object request) {
+        switch (method.getBareMethodName()) {
+            case "GetGameServer":
+            case "SetLabel":
+            case "SetAnnotation":
+            case "GetConnectedPlayers":
+            case "IsPlayerConnected":
+            case "GetPlayerCapacity":
+            case "SetPlayerCapacity":
+            case "GetPlayerCount":
+            case "GetCounter":
+            case "GetList":
+            case "UpdateList":
+                return true;
+            case "UpdateCounter":
+                if (!(request instanceof Beta.UpdateCounterRequest)) {
+                    return false;
+                }
+                final Beta.UpdateCounterRequest update = (Beta.UpdateCounterRequest) request;
+                return update.getCounterUpdateRequest().getCountDiff() == 0L;
+            default:
+                return false;
+        }
+    }
+
+    long initialBackoffNanos() {
+        return this.initialBackoffNanos;
+    }
+
+    long maxBackoffNanos() {
+        return this.maxBackoffNanos;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || this.getClass() != obj.getClass()) {
+            return false;
+        }
+        final RetryPolicy that = (RetryPolicy) obj;
+        return (
+            this.maxAttempts == that.maxAttempts &&
+            this.initialBackoffNanos == that.initialBackoffNanos &&
+            this.maxBackoffNanos == that.maxBackoffNanos &&
+            this.maxTokens == that.maxTokens &&
+            Double.compare(this.tokenRatio, that.tokenRatio) == 0
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.maxAttempts,
+            this.initialBackoffNanos,
+            this.maxBackoffNanos,
+            this.maxTokens,
+            this.tokenRatio
+        );
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", RetryPolicy.class.getSimpleName() + "[", "]")
+            .add("maxAttempts=" + this.maxAttempts)
+            .add("initialBackoff=" + this.getInitialBackoff())
+            .add("maxBackoff=" + this.getMaxBackoff())
+            .add("maxTokens=" + this.maxTokens)
+            .add("tokenRatio=" + this.tokenRatio)
+            .toString();
+    }
+}
@@ -0,0 +1,95 @@
+package net.infumia.agones4j;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates virtual thread executors on JDKs that have them.
+ * <p>
+ * The library targets Java 8, so virtual threads are reached through reflection once, and every method falls back
+ * gracefully on older JDKs.
+ */
+final class VirtualThreads {
+
+    private static final String THREAD_NAME_PREFIX = "agones4j-virtual-";
+
+    private static final Method OF_VIRTUAL = VirtualThreads.find(Thread.class, "ofVirtual");
+    private static final Method NAME = VirtualThreads.find(
+        "java.lang.Thread$Builder",
+        "name",
+        String.class,
+        long.class
+    );
+    private static final Method FACTORY = VirtualThreads.find(
+        "java.lang.Thread$Builder",
+        "factory"
+    );
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR = VirtualThreads.find(
+        Executors.class,
+        "newThreadPerTaskExecutor",
+        ThreadFactory.class
+    );
+
+    private VirtualThreads() {
+        throw new UnsupportedOperationException(
+            "This is a utility class and cannot be instantiated"
+        );
+    }
+
+    static boolean isSupported() {
+        return (
+            VirtualThreads.OF_VIRTUAL != null &&
+            VirtualThreads.NAME != null &&
+            VirtualThreads.FACTORY != null &&
+            VirtualThreads.NEW_THREAD_PER_TASK_EXECUTOR != null
+        );
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task.
+     *
+     * @return A new virtual thread executor, or {@code null} if the JDK does not support virtual threads.
+     */
+    static ExecutorService newExecutor() {
+        if (!VirtualThreads.isSupported()) {
+            return null;
+        }
+        try {
+            Object builder = VirtualThreads.OF_VIRTUAL.invoke(null);
+            builder = VirtualThreads.NAME.invoke(builder, VirtualThreads.THREAD_NAME_PREFIX, 0L);
+            final ThreadFactory factory = (ThreadFactory) VirtualThreads.FACTORY.invoke(builder);
+            return (ExecutorService) VirtualThreads.NEW_THREAD_PER_TASK_EXECUTOR.invoke(
+                null,
+                factory
+            );
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Method find(
+        final String className,
+        final String name,
+        final Class<?>... parameters
+    ) {
+        try {
+            return VirtualThreads.find(Class.forName(className), name, parameters);
+        } catch (final ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static Method find(
+        final Class<?> type,
+        final String name,
+        final Class<?>... parameters
+    ) {
+        try {
+            return type.getMethod(name, parameters);
+        } catch (final NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package net.infumia.agones4j;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Dispatches values to watchers, keeping only the latest value per watcher.
+ * <p>
+ * Every watcher has a single slot. A value that arrives while the previous one is still waiting in the slot replaces
+ * it, so a slow watcher skips superseded values instead of queueing them. Each watcher runs serially on the executor and
+ * the hot path takes no locks.
+ * <p>
+ * A watcher may have a filter, which is tested on the dispatching thread, so filtered out values never reach the
+ * executor. Filters are tested one value at a time.
+ *
+ * @param <T> the value type.
+ */
+final class WatcherDispatcher<T> {
+
+    private final List<Slot> slots = new CopyOnWriteArrayList<>();
+    private final Executor executor;
+
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong lastLagNanos = new AtomicLong();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+
+    WatcherDispatcher(final Executor executor) {
+        this.executor = executor;
+    }
+
+    void add(final Consumer<T> watcher) {
+        this.add(watcher, null);
+    }
+
+    void add(final Consumer<T> watcher, final Predicate<T> filter) {
+        this.slots.add(new Slot(watcher, filter));
+    }
+
+    boolean isEmpty() {
+        return this.slots.isEmpty();
+    }
+
+    void dispatch(final T value) {
+        if (this.slots.isEmpty()) {
+            return;
+        }
+        final Pending<T> pending = new Pending<>(value, System.nanoTime());
+        for (final Slot slot : this.slots) {
+            if (slot.filter == null || slot.filter.test(value)) {
+                slot.offer(pending);
+            }
+        }
+    }
+
+    WatcherStats stats(final long reconnects, final long duplicates) {
+        return new WatcherStats(
+            this.delivered.get(),
+            this.dropped.get(),
+            this.lastLagNanos.get(),
+            this.maxLagNanos.get(),
+            reconnects,
+            duplicates
+        );
+    }
+
+    private void delivered(final long lagNanos) {
+        this.delivered.incrementAndGet();
+        this.lastLagNanos.set(lagNanos);
+        long max;
+        do {
+            max = this.maxLagNanos.get();
+        } while (lagNanos > max && !this.maxLagNanos.compareAndSet(max, lagNanos));
+    }
+
+    private static final class Pending<T> {
+
+        private final T value;
+        private final long receivedAt;
+
+        private Pending(final T value, final long receivedAt) {
+            this.value = value;
+            this.receivedAt = receivedAt;
+        }
+    }
+
+    private final class Slot implements Runnable {
+
+        private final Consumer<T> watcher;
+        private final Predicate<T> filter;
+        private final AtomicReference<Pending<T>> latest = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Slot(final Consumer<T> watcher, final Predicate<T> filter) {
+            this.watcher = watcher;
+            this.filter = filter;
+        }
+
+        private void offer(final Pending<T> pending) {
+            if (this.latest.getAndSet(pending) != null) {
+                WatcherDispatcher.this.dropped.incrementAndGet();
+            }
+            if (this.scheduled.compareAndSet(false, true)) {
+                WatcherDispatcher.this.executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                final Pending<T> pending = this.latest.getAndSet(null);
+                if (pending == null) {
+                    this.scheduled.set(false);
+                    if (this.latest.get() == null || !this.scheduled.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                WatcherDispatcher.this.delivered(System.nanoTime() - pending.receivedAt);
+                try {
+                    this.watcher.accept(pending.value);
+                } catch (final RuntimeException e) {
+                    final Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            }
+        }
+    }
+}
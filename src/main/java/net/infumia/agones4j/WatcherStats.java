@@ -0,0 +1,130 @@
+package net.infumia.agones4j;
+
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Represents the counters of the game server watch stream and watcher dispatch.
+ */
+public final class WatcherStats {
+
+    private final long delivered;
+    private final long dropped;
+    private final long lastLagNanos;
+    private final long maxLagNanos;
+    private final long reconnects;
+    private final long duplicates;
+
+    WatcherStats(
+        final long delivered,
+        final long dropped,
+        final long lastLagNanos,
+        final long maxLagNanos,
+        final long reconnects,
+        final long duplicates
+    ) {
+        this.delivered = delivered;
+        this.dropped = dropped;
+        this.lastLagNanos = lastLagNanos;
+        this.maxLagNanos = maxLagNanos;
+        this.reconnects = reconnects;
+        this.duplicates = duplicates;
+    }
+
+    /**
+     * Retrieves the number of updates delivered to watchers.
+     *
+     * @return the delivered updates.
+     */
+    public long getDelivered() {
+        return this.delivered;
+    }
+
+    /**
+     * Retrieves the number of updates dropped because a newer update arrived before they were delivered.
+     *
+     * @return the dropped updates.
+     */
+    public long getDropped() {
+        return this.dropped;
+    }
+
+    /**
+     * Retrieves the time between receiving and delivering the most recently delivered update.
+     *
+     * @return the last lag in nanoseconds.
+     */
+    public long getLastLagNanos() {
+        return this.lastLagNanos;
+    }
+
+    /**
+     * Retrieves the longest time between receiving and delivering an update.
+     *
+     * @return the max lag in nanoseconds.
+     */
+    public long getMaxLagNanos() {
+        return this.maxLagNanos;
+    }
+
+    /**
+     * Retrieves the number of times the watch stream was reopened after it broke.
+     *
+     * @return the reconnects.
+     */
+    public long getReconnects() {
+        return this.reconnects;
+    }
+
+    /**
+     * Retrieves the number of game servers skipped because their resource version was already seen.
+     *
+     * @return the duplicate updates.
+     */
+    public long getDuplicates() {
+        return this.duplicates;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || this.getClass() != obj.getClass()) {
+            return false;
+        }
+        final WatcherStats that = (WatcherStats) obj;
+        return (
+            Objects.equals(this.delivered, that.delivered) &&
+            Objects.equals(this.dropped, that.dropped) &&
+            Objects.equals(this.lastLagNanos, that.lastLagNanos) &&
+            Objects.equals(this.maxLagNanos, that.maxLagNanos) &&
+            Objects.equals(this.reconnects, that.reconnects) &&
+            Objects.equals(this.duplicates, that.duplicates)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.delivered,
+            this.dropped,
+            this.lastLagNanos,
+            this.maxLagNanos,
+            this.reconnects,
+            this.duplicates
+        );
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", WatcherStats.class.getSimpleName() + "[", "]")
+            .add("delivered=" + this.delivered)
+            .add("dropped=" + this.dropped)
+            .add("lastLagNanos=" + this.lastLagNanos)
+            .add("maxLagNanos=" + this.maxLagNanos)
+            .add("reconnects=" + this.reconnects)
+            .add("duplicates=" + this.duplicates)
+            .toString();
+    }
+}
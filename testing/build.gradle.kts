@@ -0,0 +1,12 @@
+import net.infumia.gradle.applyPublish
+
+applyPublish("testing")
+
+dependencies {
+    implementation(project(":"))
+    compileOnly(libs.protobuf)
+    compileOnly(libs.grpc.protobuf)
+    compileOnly(libs.grpc.stub)
+    compileOnly(libs.grpc.inprocess)
+    compileOnly(libs.annotationsapi)
+}
@@ -0,0 +1,193 @@
+package net.infumia.agones4j.testing;
+
+import agones.dev.sdk.Sdk;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import java.util.Collection;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.UnaryOperator;
+
+/**
+ * The interface provides a fake Agones SDK sidecar that runs in the same process.
+ * <p>
+ * The fake serves the stable, alpha and beta SDK services with an in-memory game server, including counters, lists,
+ * players and the watch stream, so the client can be benchmarked and soak-tested without Kubernetes. Latencies, errors
+ * and stream drops can be injected.
+ */
+public interface FakeAgones extends AutoCloseable {
+    /**
+     * Retrieves a new instance of the fake Agones builder.
+     *
+     * @return A new instance of the fake Agones builder.
+     */
+    static FakeAgones.Builder builder() {
+        return new FakeAgonesImpl.Builder();
+    }
+
+    /**
+     * Creates a new channel to the fake sidecar.
+     * <p>
+     * The channel is owned by the caller, e.g. passed to {@code Agones.Builder#withChannel(ManagedChannel)}.
+     *
+     * @return A new channel to the fake sidecar.
+     */
+    ManagedChannel newChannel();
+
+    /**
+     * Retrieves the current game server.
+     *
+     * @return the current game server.
+     */
+    Sdk.GameServer getGameServer();
+
+    /**
+     * Updates the game server as if it was changed through the Kubernetes API.
+     * <p>
+     * The resource version is increased and the game server is sent to every watch stream.
+     *
+     * @param update the update to apply to the game server.
+     */
+    void updateGameServer(UnaryOperator<Sdk.GameServer> update);
+
+    /**
+     * Breaks every open watch and health stream with {@link Status.Code#UNAVAILABLE}, as if the sidecar restarted.
+     */
+    void dropStreams();
+
+    /**
+     * Retrieves the number of health pings received.
+     *
+     * @return the received health pings.
+     */
+    long getHealthPings();
+
+    /**
+     * Stops the fake sidecar.
+     */
+    @Override
+    void close();
+
+    /**
+     * A builder for creating instances of fake Agones with specified configurations.
+     */
+    interface Builder {
+        /**
+         * Builds and starts an instance of fake Agones using the specified configuration.
+         *
+         * @return A started instance of fake Agones.
+         *
+         * @throws java.io.UncheckedIOException if the server cannot be started.
+         */
+        FakeAgones build();
+
+        /**
+         * Serves the fake sidecar on an in-process transport with the given name.
+         *
+         * @param name the in-process server name. Default is a generated unique name.
+         *
+         * @return The fake Agones Builder instance.
+         */
+        Builder withInProcessName(String name);
+
+        /**
+         * Serves the fake sidecar on a local port instead of the in-process transport.
+         * <p>
+         * A gRPC server transport, e.g. grpc-netty-shaded, has to be on the classpath.
+         *
+         * @param port the port to listen, 0 for a free port.
+         *
+         * @return The fake Agones Builder instance.
+         */
+        Builder withPort(int port);
+
+        /**
+         * Sets the initial game server.
+         *
+         * @param gameServer the initial game server. Default is a {@code Scheduled} game server without counters,
+         *                   lists or players.
+         *
+         * @return The fake Agones Builder instance.
+         */
+        Builder withGameServer(Sdk.GameServer gameServer);
+
+        /**
+         * Adds a counter to the initial game server.
+         *
+         * @param name the name of the counter.
+         * @param count the count of the counter.
+         * @param capacity the capacity of the counter.
+         *
+         * @return The fake Agones Builder instance.
+         */
+        Builder withCounter(String name, long count, long capacity);
+
+        /**
+         * Adds a list to the initial game server.
+         *
+         * @param name the name of the list.
+         * @param capacity the capacity of the list.
+         * @param values the values of the list.
+         *
+         * @return The fake Agones Builder instance.
+         */
+        Builder withList(String name, long capacity, Collection<String> values);
+
+        /**
+         * Sets the player capacity of the initial game server.
+         *
+         * @param capacity the player capacity.
+         *
+         * @return The fake Agones Builder instance.
+         */
+        Builder withPlayerCapacity(long capacity);
+
+        /**
+         * Sets the latency added to every unary call.
+         *
+         * @param latency the latency distribution. Default is {@link LatencyDistribution#none()}
+         *
+         * @return The fake Agones Builder instance.
+         */
+        Builder withLatency(LatencyDistribution latency);
+
+        /**
+         * Sets the share of unary calls that fail with {@link Status.Code#UNAVAILABLE}.
+         *
+         * @param rate the error rate, between 0 and 1. Default is 0.
+         *
+         * @return The fake Agones Builder instance.
+         */
+        default Builder withErrorRate(final double rate) {
+            return this.withErrorRate(rate, Status.Code.UNAVAILABLE);
+        }
+
+        /**
+         * Sets the share of unary calls that fail with the given status code.
+         *
+         * @param rate the error rate, between 0 and 1. Default is 0.
+         * @param code the status code of the injected errors.
+         *
+         * @return The fake Agones Builder instance.
+         */
+        Builder withErrorRate(double rate, Status.Code code);
+
+        /**
+         * Sets the chance of a watch or health stream breaking with {@link Status.Code#UNAVAILABLE} on each message.
+         *
+         * @param rate the stream drop rate, between 0 and 1. Default is 0.
+         *
+         * @return The fake Agones Builder instance.
+         */
+        Builder withStreamDropRate(double rate);
+
+        /**
+         * Sets the executor that delays the responses and expires reservations.
+         *
+         * @param executor the scheduled executor service. Default is {@link Executors#newSingleThreadScheduledExecutor()}
+         *
+         * @return The fake Agones Builder instance.
+         */
+        Builder withExecutor(ScheduledExecutorService executor);
+    }
+}
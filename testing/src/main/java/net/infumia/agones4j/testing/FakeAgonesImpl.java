@@ -0,0 +1,293 @@
+package net.infumia.agones4j.testing;
+
+import agones.dev.sdk.Sdk;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.UnaryOperator;
+
+final class FakeAgonesImpl implements FakeAgones {
+
+    private final String inProcessName;
+    private final int port;
+    private final FakeState state;
+    private final FakeSdkService sdk;
+    private final Server server;
+    private final ScheduledExecutorService executor;
+    private final boolean ownsExecutor;
+
+    private FakeAgonesImpl(final Builder builder) {
+        this.ownsExecutor = builder.executor == null;
+        this.executor = this.ownsExecutor
+            ? Executors.newSingleThreadScheduledExecutor()
+            : builder.executor;
+        final Faults faults = new Faults(
+            builder.latency,
+            builder.errorRate,
+            builder.errorCode,
+            builder.streamDropRate,
+            this.executor
+        );
+        this.state = new FakeState(builder.initialGameServer(), faults);
+        this.sdk = new FakeSdkService(this.state, faults);
+        if (builder.port < 0) {
+            this.inProcessName = builder.inProcessName == null
+                ? InProcessServerBuilder.generateName()
+                : builder.inProcessName;
+            this.server = this.start(
+                    InProcessServerBuilder.forName(this.inProcessName).directExecutor(),
+                    faults
+                );
+            this.port = -1;
+        } else {
+            this.inProcessName = null;
+            this.server = this.start(ServerBuilder.forPort(builder.port), faults);
+            this.port = this.server.getPort();
+        }
+    }
+
+    @Override
+    public ManagedChannel newChannel() {
+        if (this.inProcessName != null) {
+            return InProcessChannelBuilder.forName(this.inProcessName).directExecutor().build();
+        }
+        return ManagedChannelBuilder.forAddress("localhost", this.port).usePlaintext().build();
+    }
+
+    @Override
+    public Sdk.GameServer getGameServer() {
+        return this.state.get();
+    }
+
+    @Override
+    public void updateGameServer(final UnaryOperator<Sdk.GameServer> update) {
+        Objects.requireNonNull(update, "update");
+        this.state.replace(update);
+    }
+
+    @Override
+    public void dropStreams() {
+        this.state.dropStreams();
+        this.sdk.dropStreams();
+    }
+
+    @Override
+    public long getHealthPings() {
+        return this.sdk.healthPings();
+    }
+
+    @Override
+    public void close() {
+        this.server.shutdownNow();
+        if (this.ownsExecutor) {
+            this.executor.shutdownNow();
+        }
+    }
+
+    private Server start(final ServerBuilder<?> builder, final Faults faults) {
+        final Server server = builder
+            .addService(this.sdk)
+            .addService(new FakeAlphaService(this.state, faults))
+            .addService(new FakeBetaService(this.state, faults))
+            .build();
+        try {
+            return server.start();
+        } catch (final IOException e) {
+            if (this.ownsExecutor) {
+                this.executor.shutdownNow();
+            }
+            throw new UncheckedIOException("Could not start the fake Agones sidecar", e);
+        }
+    }
+
+    static final class Builder implements FakeAgones.Builder {
+
+        private String inProcessName;
+        private int port = -1;
+        private Sdk.GameServer gameServer;
+        private Map<String, Sdk.GameServer.Status.CounterStatus> counters = new LinkedHashMap<>();
+        private Map<String, Sdk.GameServer.Status.ListStatus> lists = new LinkedHashMap<>();
+        private long playerCapacity = -1L;
+        private LatencyDistribution latency = LatencyDistribution.none();
+        private double errorRate;
+        private Status.Code errorCode = Status.Code.UNAVAILABLE;
+        private double streamDropRate;
+        private ScheduledExecutorService executor;
+
+        Builder() {}
+
+        @Override
+        public FakeAgones build() {
+            return new FakeAgonesImpl(this);
+        }
+
+        @Override
+        public FakeAgones.Builder withInProcessName(final String name) {
+            Objects.requireNonNull(name, "name");
+            final Builder builder = this.copy();
+            builder.inProcessName = name;
+            builder.port = -1;
+            return builder;
+        }
+
+        @Override
+        public FakeAgones.Builder withPort(final int port) {
+            if (port < 0 || port > 65535) {
+                throw new IllegalArgumentException("Port must be between 0 and 65535!");
+            }
+            final Builder builder = this.copy();
+            builder.port = port;
+            builder.inProcessName = null;
+            return builder;
+        }
+
+        @Override
+        public FakeAgones.Builder withGameServer(final Sdk.GameServer gameServer) {
+            Objects.requireNonNull(gameServer, "gameServer");
+            final Builder builder = this.copy();
+            builder.gameServer = gameServer;
+            return builder;
+        }
+
+        @Override
+        public FakeAgones.Builder withCounter(
+            final String name,
+            final long count,
+            final long capacity
+        ) {
+            Objects.requireNonNull(name, "name");
+            if (capacity < 0L || count < 0L || count > capacity) {
+                throw new IllegalArgumentException(
+                    "Counter count must be between 0 and the capacity!"
+                );
+            }
+            final Builder builder = this.copy();
+            builder.counters.put(
+                name,
+                Sdk.GameServer.Status.CounterStatus.newBuilder()
+                    .setCount(count)
+                    .setCapacity(capacity)
+                    .build()
+            );
+            return builder;
+        }
+
+        @Override
+        public FakeAgones.Builder withList(
+            final String name,
+            final long capacity,
+            final Collection<String> values
+        ) {
+            Objects.requireNonNull(name, "name");
+            Objects.requireNonNull(values, "values");
+            if (capacity < 0L || values.size() > capacity) {
+                throw new IllegalArgumentException("List values must not exceed the capacity!");
+            }
+            final Builder builder = this.copy();
+            builder.lists.put(
+                name,
+                Sdk.GameServer.Status.ListStatus.newBuilder()
+                    .setCapacity(capacity)
+                    .addAllValues(new ArrayList<>(values))
+                    .build()
+            );
+            return builder;
+        }
+
+        @Override
+        public FakeAgones.Builder withPlayerCapacity(final long capacity) {
+            if (capacity < 0L) {
+                throw new IllegalArgumentException("Player capacity must be non-negative!");
+            }
+            final Builder builder = this.copy();
+            builder.playerCapacity = capacity;
+            return builder;
+        }
+
+        @Override
+        public FakeAgones.Builder withLatency(final LatencyDistribution latency) {
+            Objects.requireNonNull(latency, "latency");
+            final Builder builder = this.copy();
+            builder.latency = latency;
+            return builder;
+        }
+
+        @Override
+        public FakeAgones.Builder withErrorRate(final double rate, final Status.Code code) {
+            Objects.requireNonNull(code, "code");
+            if (rate < 0.0D || rate > 1.0D) {
+                throw new IllegalArgumentException("Error rate must be between 0 and 1!");
+            }
+            if (code == Status.Code.OK) {
+                throw new IllegalArgumentException("Error code must not be OK!");
+            }
+            final Builder builder = this.copy();
+            builder.errorRate = rate;
+            builder.errorCode = code;
+            return builder;
+        }
+
+        @Override
+        public FakeAgones.Builder withStreamDropRate(final double rate) {
+            if (rate < 0.0D || rate > 1.0D) {
+                throw new IllegalArgumentException("Stream drop rate must be between 0 and 1!");
+            }
+            final Builder builder = this.copy();
+            builder.streamDropRate = rate;
+            return builder;
+        }
+
+        @Override
+        public FakeAgones.Builder withExecutor(final ScheduledExecutorService executor) {
+            Objects.requireNonNull(executor, "executor");
+            final Builder builder = this.copy();
+            builder.executor = executor;
+            return builder;
+        }
+
+        private Sdk.GameServer initialGameServer() {
+            final Sdk.GameServer.Builder builder;
+            if (this.gameServer == null) {
+                builder = Sdk.GameServer.newBuilder();
+                builder.getObjectMetaBuilder().setName("fake-game-server").setNamespace("default");
+                builder.getStatusBuilder().setState("Scheduled");
+            } else {
+                builder = this.gameServer.toBuilder();
+            }
+            builder.getStatusBuilder().putAllCounters(this.counters).putAllLists(this.lists);
+            if (this.playerCapacity >= 0L) {
+                builder.getStatusBuilder().getPlayersBuilder().setCapacity(this.playerCapacity);
+            }
+            return builder.build();
+        }
+
+        private Builder copy() {
+            final Builder builder = new Builder();
+            builder.inProcessName = this.inProcessName;
+            builder.port = this.port;
+            builder.gameServer = this.gameServer;
+            builder.counters = new LinkedHashMap<>(this.counters);
+            builder.lists = new LinkedHashMap<>(this.lists);
+            builder.playerCapacity = this.playerCapacity;
+            builder.latency = this.latency;
+            builder.errorRate = this.errorRate;
+            builder.errorCode = this.errorCode;
+            builder.streamDropRate = this.streamDropRate;
+            builder.executor = this.executor;
+            return builder;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package net.infumia.agones4j.testing;
+
+import agones.dev.sdk.Sdk;
+import agones.dev.sdk.alpha.Alpha;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serves the alpha SDK service of the fake sidecar, which tracks players.
+ */
+final class FakeAlphaService extends agones.dev.sdk.alpha.SDKGrpc.SDKImplBase {
+
+    private final FakeState state;
+    private final Faults faults;
+
+    FakeAlphaService(final FakeState state, final Faults faults) {
+        this.state = state;
+        this.faults = faults;
+    }
+
+    @Override
+    public void playerConnect(
+        final Alpha.PlayerID request,
+        final StreamObserver<Alpha.Bool> response
+    ) {
+        this.faults.unary(response, () ->
+            this.state.update(builder -> {
+                final Sdk.GameServer.Status.PlayerStatus.Builder players = builder
+                    .getStatusBuilder()
+                    .getPlayersBuilder();
+                if (players.getIdsList().contains(request.getPlayerID())) {
+                    return FakeAlphaService.bool(false);
+                }
+                if (players.getIdsCount() >= players.getCapacity()) {
+                    throw Status.FAILED_PRECONDITION.withDescription(
+                        "Players are already at capacity"
+                    ).asRuntimeException();
+                }
+                players.addIds(request.getPlayerID()).setCount(players.getIdsCount());
+                return FakeAlphaService.bool(true);
+            })
+        );
+    }
+
+    @Override
+    public void playerDisconnect(
+        final Alpha.PlayerID request,
+        final StreamObserver<Alpha.Bool> response
+    ) {
+        this.faults.unary(response, () ->
+            this.state.update(builder -> {
+                final Sdk.GameServer.Status.PlayerStatus.Builder players = builder
+                    .getStatusBuilder()
+                    .getPlayersBuilder();
+                final List<String> ids = new ArrayList<>(players.getIdsList());
+                if (!ids.remove(request.getPlayerID())) {
+                    return FakeAlphaService.bool(false);
+                }
+                players.clearIds().addAllIds(ids).setCount(ids.size());
+                return FakeAlphaService.bool(true);
+            })
+        );
+    }
+
+    @Override
+    public void isPlayerConnected(
+        final Alpha.PlayerID request,
+        final StreamObserver<Alpha.Bool> response
+    ) {
+        this.faults.unary(response, () ->
+            FakeAlphaService.bool(this.players().getIdsList().contains(request.getPlayerID()))
+        );
+    }
+
+    @Override
+    public void setPlayerCapacity(
+        final Alpha.Count request,
+        final StreamObserver<Alpha.Empty> response
+    ) {
+        this.faults.unary(response, () -> {
+            this.state.update(builder ->
+                builder.getStatusBuilder().getPlayersBuilder().setCapacity(request.getCount())
+            );
+            return Alpha.Empty.getDefaultInstance();
+        });
+    }
+
+    @Override
+    public void getPlayerCapacity(
+        final Alpha.Empty request,
+        final StreamObserver<Alpha.Count> response
+    ) {
+        this.faults.unary(response, () -> FakeAlphaService.count(this.players().getCapacity()));
+    }
+
+    @Override
+    public void getPlayerCount(
+        final Alpha.Empty request,
+        final StreamObserver<Alpha.Count> response
+    ) {
+        this.faults.unary(response, () -> FakeAlphaService.count(this.players().getIdsCount()));
+    }
+
+    @Override
+    public void getConnectedPlayers(
+        final Alpha.Empty request,
+        final StreamObserver<Alpha.PlayerIDList> response
+    ) {
+        this.faults.unary(response, () ->
+            Alpha.PlayerIDList.newBuilder().addAllList(this.players().getIdsList()).build()
+        );
+    }
+
+    private Sdk.GameServer.Status.PlayerStatus players() {
+        return this.state.get().getStatus().getPlayers();
+    }
+
+    private static Alpha.Bool bool(final boolean value) {
+        return Alpha.Bool.newBuilder().setBool(value).build();
+    }
+
+    private static Alpha.Count count(final long value) {
+        return Alpha.Count.newBuilder().setCount(value).build();
+    }
+}
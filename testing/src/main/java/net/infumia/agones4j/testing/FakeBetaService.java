@@ -0,0 +1,232 @@
+package net.infumia.agones4j.testing;
+
+import agones.dev.sdk.Sdk;
+import agones.dev.sdk.beta.Beta;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serves the beta SDK service of the fake sidecar, which tracks counters and lists.
+ */
+final class FakeBetaService extends agones.dev.sdk.beta.SDKGrpc.SDKImplBase {
+
+    private final FakeState state;
+    private final Faults faults;
+
+    FakeBetaService(final FakeState state, final Faults faults) {
+        this.state = state;
+        this.faults = faults;
+    }
+
+    @Override
+    public void getCounter(
+        final Beta.GetCounterRequest request,
+        final StreamObserver<Beta.Counter> response
+    ) {
+        this.faults.unary(response, () -> {
+            final String name = request.getName();
+            return FakeBetaService.toCounter(
+                name,
+                FakeBetaService.counter(this.state.get().getStatus(), name)
+            );
+        });
+    }
+
+    @Override
+    public void updateCounter(
+        final Beta.UpdateCounterRequest request,
+        final StreamObserver<Beta.Counter> response
+    ) {
+        final Beta.CounterUpdateRequest update = request.getCounterUpdateRequest();
+        this.faults.unary(response, () ->
+            this.state.update(builder -> {
+                final String name = update.getName();
+                final Sdk.GameServer.Status.CounterStatus current = FakeBetaService.counter(
+                    builder.getStatusBuilder().build(),
+                    name
+                );
+                final long capacity = update.hasCapacity()
+                    ? update.getCapacity().getValue()
+                    : current.getCapacity();
+                final long count =
+                    (update.hasCount() ? update.getCount().getValue() : current.getCount()) +
+                    update.getCountDiff();
+                if (capacity < 0L || count < 0L || count > capacity) {
+                    throw Status.OUT_OF_RANGE.withDescription(
+                        "Counter " + name + " count " + count + " is out of range 0-" + capacity
+                    ).asRuntimeException();
+                }
+                final Sdk.GameServer.Status.CounterStatus counter =
+                    Sdk.GameServer.Status.CounterStatus.newBuilder()
+                        .setCount(count)
+                        .setCapacity(capacity)
+                        .build();
+                builder.getStatusBuilder().putCounters(name, counter);
+                return FakeBetaService.toCounter(name, counter);
+            })
+        );
+    }
+
+    @Override
+    public void getList(
+        final Beta.GetListRequest request,
+        final StreamObserver<Beta.List> response
+    ) {
+        this.faults.unary(response, () -> {
+            final String name = request.getName();
+            return FakeBetaService.toList(
+                name,
+                FakeBetaService.list(this.state.get().getStatus(), name)
+            );
+        });
+    }
+
+    @Override
+    public void updateList(
+        final Beta.UpdateListRequest request,
+        final StreamObserver<Beta.List> response
+    ) {
+        this.faults.unary(response, () ->
+            this.state.update(builder -> {
+                final Beta.List update = request.getList();
+                final String name = update.getName();
+                final Sdk.GameServer.Status.ListStatus current = FakeBetaService.list(
+                    builder.getStatusBuilder().build(),
+                    name
+                );
+                final List<String> paths = request.getUpdateMask().getPathsList();
+                final long capacity = paths.contains("capacity")
+                    ? update.getCapacity()
+                    : current.getCapacity();
+                if (capacity < 0L) {
+                    throw Status.OUT_OF_RANGE.withDescription(
+                        "List " + name + " capacity " + capacity + " is negative"
+                    ).asRuntimeException();
+                }
+                final List<String> values = new ArrayList<>(
+                    paths.contains("values") ? update.getValuesList() : current.getValuesList()
+                );
+                while (values.size() > capacity) {
+                    values.remove(values.size() - 1);
+                }
+                return this.putList(builder, name, capacity, values);
+            })
+        );
+    }
+
+    @Override
+    public void addListValue(
+        final Beta.AddListValueRequest request,
+        final StreamObserver<Beta.List> response
+    ) {
+        this.faults.unary(response, () ->
+            this.state.update(builder -> {
+                final String name = request.getName();
+                final Sdk.GameServer.Status.ListStatus current = FakeBetaService.list(
+                    builder.getStatusBuilder().build(),
+                    name
+                );
+                if (current.getValuesList().contains(request.getValue())) {
+                    throw Status.ALREADY_EXISTS.withDescription(
+                        "List " + name + " already has " + request.getValue()
+                    ).asRuntimeException();
+                }
+                if (current.getValuesList().size() >= current.getCapacity()) {
+                    throw Status.OUT_OF_RANGE.withDescription(
+                        "List " + name + " is at capacity"
+                    ).asRuntimeException();
+                }
+                final List<String> values = new ArrayList<>(current.getValuesList());
+                values.add(request.getValue());
+                return this.putList(builder, name, current.getCapacity(), values);
+            })
+        );
+    }
+
+    @Override
+    public void removeListValue(
+        final Beta.RemoveListValueRequest request,
+        final StreamObserver<Beta.List> response
+    ) {
+        this.faults.unary(response, () ->
+            this.state.update(builder -> {
+                final String name = request.getName();
+                final Sdk.GameServer.Status.ListStatus current = FakeBetaService.list(
+                    builder.getStatusBuilder().build(),
+                    name
+                );
+                final List<String> values = new ArrayList<>(current.getValuesList());
+                if (!values.remove(request.getValue())) {
+                    throw Status.NOT_FOUND.withDescription(
+                        "List " + name + " does not have " + request.getValue()
+                    ).asRuntimeException();
+                }
+                return this.putList(builder, name, current.getCapacity(), values);
+            })
+        );
+    }
+
+    private Beta.List putList(
+        final Sdk.GameServer.Builder builder,
+        final String name,
+        final long capacity,
+        final List<String> values
+    ) {
+        final Sdk.GameServer.Status.ListStatus list = Sdk.GameServer.Status.ListStatus.newBuilder()
+            .setCapacity(capacity)
+            .addAllValues(values)
+            .build();
+        builder.getStatusBuilder().putLists(name, list);
+        return FakeBetaService.toList(name, list);
+    }
+
+    private static Sdk.GameServer.Status.CounterStatus counter(
+        final Sdk.GameServer.Status status,
+        final String name
+    ) {
+        final Sdk.GameServer.Status.CounterStatus counter = status.getCountersMap().get(name);
+        if (counter == null) {
+            throw Status.NOT_FOUND.withDescription(
+                "Counter " + name + " does not exist"
+            ).asRuntimeException();
+        }
+        return counter;
+    }
+
+    private static Sdk.GameServer.Status.ListStatus list(
+        final Sdk.GameServer.Status status,
+        final String name
+    ) {
+        final Sdk.GameServer.Status.ListStatus list = status.getListsMap().get(name);
+        if (list == null) {
+            throw Status.NOT_FOUND.withDescription(
+                "List " + name + " does not exist"
+            ).asRuntimeException();
+        }
+        return list;
+    }
+
+    private static Beta.Counter toCounter(
+        final String name,
+        final Sdk.GameServer.Status.CounterStatus counter
+    ) {
+        return Beta.Counter.newBuilder()
+            .setName(name)
+            .setCount(counter.getCount())
+            .setCapacity(counter.getCapacity())
+            .build();
+    }
+
+    private static Beta.List toList(
+        final String name,
+        final Sdk.GameServer.Status.ListStatus list
+    ) {
+        return Beta.List.newBuilder()
+            .setName(name)
+            .setCapacity(list.getCapacity())
+            .addAllValues(list.getValuesList())
+            .build();
+    }
+}
@@ -0,0 +1,173 @@
+package net.infumia.agones4j.testing;
+
+import agones.dev.sdk.Sdk;
+import io.grpc.stub.StreamObserver;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves the stable SDK service of the fake sidecar.
+ */
+final class FakeSdkService extends agones.dev.sdk.SDKGrpc.SDKImplBase {
+
+    private static final String LABEL_PREFIX = "agones.dev/sdk-";
+
+    private final FakeState state;
+    private final Faults faults;
+    private final HealthStreams healthStreams = new HealthStreams();
+
+    FakeSdkService(final FakeState state, final Faults faults) {
+        this.state = state;
+        this.faults = faults;
+    }
+
+    @Override
+    public void ready(final Sdk.Empty request, final StreamObserver<Sdk.Empty> response) {
+        this.faults.unary(response, () -> this.setState("Ready"));
+    }
+
+    @Override
+    public void allocate(final Sdk.Empty request, final StreamObserver<Sdk.Empty> response) {
+        this.faults.unary(response, () -> this.setState("Allocated"));
+    }
+
+    @Override
+    public void shutdown(final Sdk.Empty request, final StreamObserver<Sdk.Empty> response) {
+        this.faults.unary(response, () -> this.setState("Shutdown"));
+    }
+
+    @Override
+    public void reserve(final Sdk.Duration request, final StreamObserver<Sdk.Empty> response) {
+        this.faults.unary(response, () -> {
+            this.setState("Reserved");
+            if (request.getSeconds() > 0L) {
+                this.faults.executor()
+                    .schedule(this::expireReservation, request.getSeconds(), TimeUnit.SECONDS);
+            }
+            return Sdk.Empty.getDefaultInstance();
+        });
+    }
+
+    @Override
+    public StreamObserver<Sdk.Empty> health(final StreamObserver<Sdk.Empty> response) {
+        return this.healthStreams.open(response);
+    }
+
+    @Override
+    public void getGameServer(
+        final Sdk.Empty request,
+        final StreamObserver<Sdk.GameServer> response
+    ) {
+        this.faults.unary(response, this.state::get);
+    }
+
+    @Override
+    public void watchGameServer(
+        final Sdk.Empty request,
+        final StreamObserver<Sdk.GameServer> response
+    ) {
+        this.state.watch(response);
+    }
+
+    @Override
+    public void setLabel(final Sdk.KeyValue request, final StreamObserver<Sdk.Empty> response) {
+        this.faults.unary(response, () -> {
+            this.state.update(builder ->
+                builder
+                    .getObjectMetaBuilder()
+                    .putLabels(FakeSdkService.LABEL_PREFIX + request.getKey(), request.getValue())
+            );
+            return Sdk.Empty.getDefaultInstance();
+        });
+    }
+
+    @Override
+    public void setAnnotation(
+        final Sdk.KeyValue request,
+        final StreamObserver<Sdk.Empty> response
+    ) {
+        this.faults.unary(response, () -> {
+            this.state.update(builder ->
+                builder
+                    .getObjectMetaBuilder()
+                    .putAnnotations(
+                        FakeSdkService.LABEL_PREFIX + request.getKey(),
+                        request.getValue()
+                    )
+            );
+            return Sdk.Empty.getDefaultInstance();
+        });
+    }
+
+    long healthPings() {
+        return this.healthStreams.pings.get();
+    }
+
+    void dropStreams() {
+        this.healthStreams.dropAll();
+    }
+
+    private void expireReservation() {
+        this.state.update(builder -> {
+            if ("Reserved".equals(builder.getStatusBuilder().getState())) {
+                builder.getStatusBuilder().setState("Ready");
+            }
+            return null;
+        });
+    }
+
+    private Sdk.Empty setState(final String state) {
+        this.state.update(builder -> builder.getStatusBuilder().setState(state));
+        return Sdk.Empty.getDefaultInstance();
+    }
+
+    private final class HealthStreams {
+
+        private final AtomicLong pings = new AtomicLong();
+        private final Set<StreamObserver<Sdk.Empty>> open = ConcurrentHashMap.newKeySet();
+
+        private StreamObserver<Sdk.Empty> open(final StreamObserver<Sdk.Empty> response) {
+            this.open.add(response);
+            return new StreamObserver<Sdk.Empty>() {
+                @Override
+                public void onNext(final Sdk.Empty value) {
+                    if (!HealthStreams.this.open.contains(response)) {
+                        return;
+                    }
+                    if (FakeSdkService.this.faults.dropStream()) {
+                        HealthStreams.this.drop(response);
+                        return;
+                    }
+                    HealthStreams.this.pings.incrementAndGet();
+                }
+
+                @Override
+                public void onError(final Throwable t) {
+                    HealthStreams.this.open.remove(response);
+                }
+
+                @Override
+                public void onCompleted() {
+                    if (HealthStreams.this.open.remove(response)) {
+                        response.onNext(Sdk.Empty.getDefaultInstance());
+                        response.onCompleted();
+                    }
+                }
+            };
+        }
+
+        private void drop(final StreamObserver<Sdk.Empty> response) {
+            if (this.open.remove(response)) {
+                FakeState.drop(response);
+            }
+        }
+
+        private void dropAll() {
+            for (final StreamObserver<Sdk.Empty> response : this.open) {
+                this.drop(response);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package net.infumia.agones4j.testing;
+
+import agones.dev.sdk.Sdk;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Holds the game server of the fake sidecar and sends every change to the watch streams.
+ */
+final class FakeState {
+
+    private final List<StreamObserver<Sdk.GameServer>> watchers = new ArrayList<>();
+    private final Faults faults;
+    private Sdk.GameServer gameServer;
+    private long resourceVersion;
+
+    FakeState(final Sdk.GameServer gameServer, final Faults faults) {
+        this.faults = faults;
+        this.gameServer = this.versioned(gameServer.toBuilder());
+    }
+
+    synchronized Sdk.GameServer get() {
+        return this.gameServer;
+    }
+
+    synchronized <T> T update(final Function<Sdk.GameServer.Builder, T> mutation) {
+        final Sdk.GameServer.Builder builder = this.gameServer.toBuilder();
+        final T result = mutation.apply(builder);
+        this.set(builder.build());
+        return result;
+    }
+
+    synchronized void replace(final UnaryOperator<Sdk.GameServer> update) {
+        this.set(update.apply(this.gameServer));
+    }
+
+    synchronized void watch(final StreamObserver<Sdk.GameServer> watcher) {
+        if (this.send(watcher)) {
+            this.watchers.add(watcher);
+        }
+    }
+
+    synchronized void dropStreams() {
+        for (final StreamObserver<Sdk.GameServer> watcher : this.watchers) {
+            FakeState.drop(watcher);
+        }
+        this.watchers.clear();
+    }
+
+    private void set(final Sdk.GameServer updated) {
+        if (!updated.equals(this.gameServer)) {
+            this.gameServer = this.versioned(updated.toBuilder());
+            this.watchers.removeIf(watcher -> !this.send(watcher));
+        }
+    }
+
+    private boolean send(final StreamObserver<Sdk.GameServer> watcher) {
+        if (this.faults.dropStream()) {
+            FakeState.drop(watcher);
+            return false;
+        }
+        try {
+            watcher.onNext(this.gameServer);
+            return true;
+        } catch (final RuntimeException e) {
+            return false;
+        }
+    }
+
+    private Sdk.GameServer versioned(final Sdk.GameServer.Builder builder) {
+        builder.getObjectMetaBuilder().setResourceVersion(Long.toString(++this.resourceVersion));
+        return builder.build();
+    }
+
+    static void drop(final StreamObserver<?> stream) {
+        try {
+            stream.onError(
+                Status.UNAVAILABLE.withDescription("Injected stream drop").asRuntimeException()
+            );
+        } catch (final RuntimeException ignored) {}
+    }
+}
@@ -0,0 +1,77 @@
+package net.infumia.agones4j.testing;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Injects latencies, errors and stream drops into the fake services.
+ */
+final class Faults {
+
+    private final LatencyDistribution latency;
+    private final double errorRate;
+    private final Status.Code errorCode;
+    private final double streamDropRate;
+    private final ScheduledExecutorService executor;
+
+    Faults(
+        final LatencyDistribution latency,
+        final double errorRate,
+        final Status.Code errorCode,
+        final double streamDropRate,
+        final ScheduledExecutorService executor
+    ) {
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.errorCode = errorCode;
+        this.streamDropRate = streamDropRate;
+        this.executor = executor;
+    }
+
+    <T> void unary(final StreamObserver<T> response, final Supplier<T> handler) {
+        final long delay = this.latency.nextNanos();
+        if (delay <= 0L) {
+            this.respond(response, handler);
+            return;
+        }
+        this.executor.schedule(
+                () -> this.respond(response, handler),
+                delay,
+                TimeUnit.NANOSECONDS
+            );
+    }
+
+    boolean dropStream() {
+        return (
+            this.streamDropRate > 0.0D &&
+            ThreadLocalRandom.current().nextDouble() < this.streamDropRate
+        );
+    }
+
+    ScheduledExecutorService executor() {
+        return this.executor;
+    }
+
+    private <T> void respond(final StreamObserver<T> response, final Supplier<T> handler) {
+        if (this.errorRate > 0.0D && ThreadLocalRandom.current().nextDouble() < this.errorRate) {
+            response.onError(
+                this.errorCode.toStatus().withDescription("Injected fault").asRuntimeException()
+            );
+            return;
+        }
+        final T value;
+        try {
+            value = handler.get();
+        } catch (final StatusRuntimeException e) {
+            response.onError(e);
+            return;
+        }
+        response.onNext(value);
+        response.onCompleted();
+    }
+}
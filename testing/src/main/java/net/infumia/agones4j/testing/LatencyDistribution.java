@@ -0,0 +1,77 @@
+package net.infumia.agones4j.testing;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The interface provides the latencies injected into the calls of the fake Agones sidecar.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+    /**
+     * Retrieves the distribution that adds no latency.
+     *
+     * @return The no latency distribution.
+     */
+    static LatencyDistribution none() {
+        return () -> 0L;
+    }
+
+    /**
+     * Creates a distribution that always returns the same latency.
+     *
+     * @param latency the latency.
+     *
+     * @return A fixed latency distribution.
+     */
+    static LatencyDistribution fixed(final Duration latency) {
+        Objects.requireNonNull(latency, "latency");
+        final long nanos = latency.toNanos();
+        return () -> nanos;
+    }
+
+    /**
+     * Creates a distribution with latencies uniformly distributed between min and max.
+     *
+     * @param min the min latency.
+     * @param max the max latency.
+     *
+     * @return A uniform latency distribution.
+     */
+    static LatencyDistribution uniform(final Duration min, final Duration max) {
+        Objects.requireNonNull(min, "min");
+        Objects.requireNonNull(max, "max");
+        final long minNanos = min.toNanos();
+        final long maxNanos = max.toNanos();
+        if (maxNanos < minNanos) {
+            throw new IllegalArgumentException("Max latency must be at least min latency!");
+        }
+        return () -> minNanos + ThreadLocalRandom.current().nextLong(maxNanos - minNanos + 1L);
+    }
+
+    /**
+     * Creates a log-normal distribution, which has the long tail that real sidecar latencies have.
+     *
+     * @param median the median latency.
+     * @param sigma the standard deviation of the logarithm of the latency, e.g. 0.5. Higher values make the tail
+     *              longer.
+     *
+     * @return A log-normal latency distribution.
+     */
+    static LatencyDistribution logNormal(final Duration median, final double sigma) {
+        Objects.requireNonNull(median, "median");
+        if (sigma < 0.0D) {
+            throw new IllegalArgumentException("Sigma must be at least 0!");
+        }
+        final double mu = Math.log(Math.max(1L, median.toNanos()));
+        return () -> (long) Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian());
+    }
+
+    /**
+     * Retrieves the next latency.
+     *
+     * @return the latency in nanoseconds.
+     */
+    long nextNanos();
+}